@@ -0,0 +1,124 @@
+package me.lubomirstankov.gotCraftTutorial.benchmark;
+
+import me.lubomirstankov.gotCraftTutorial.config.ConfigSnapshot;
+import me.lubomirstankov.gotCraftTutorial.service.CooldownService;
+import me.lubomirstankov.gotCraftTutorial.storage.CachedTutorialStorage;
+import me.lubomirstankov.gotCraftTutorial.storage.MemoryTutorialStorage;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Builds the plugin's building blocks without a running server: parsed settings, in-memory
+ * cooldowns and player stubs. The managers that wire them to the server are not used.
+ */
+final class BenchmarkFixtures {
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Loads the bundled default config.yml.
+     */
+    static YamlConfiguration defaultConfig() {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/config.yml")) {
+            if (in == null) {
+                throw new IllegalStateException("config.yml is not on the classpath");
+            }
+            return YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Parses the settings of the given configuration.
+     */
+    static ConfigSnapshot settings(YamlConfiguration config) {
+        return ConfigSnapshot.of(config);
+    }
+
+    /**
+     * Creates a cooldown service over in-memory storage. Nothing is scheduled, so stored
+     * cooldowns are never loaded and writes stay in the pending batch.
+     */
+    static CooldownService cooldowns() {
+        CachedTutorialStorage storage = new CachedTutorialStorage(null, Logger.getLogger("benchmark"), new MemoryTutorialStorage(), 20L);
+        return new CooldownService(null, storage);
+    }
+
+    /**
+     * Creates a player stub that answers {@code getUniqueId} and {@code getName};
+     * every other method returns the default value for its return type.
+     */
+    static Player player(UUID playerId, String name) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return playerId;
+                case "getName":
+                    return name;
+                case "hashCode":
+                    return playerId.hashCode();
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Player[" + name + "]";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    /**
+     * Creates a stub of any interface; every method returns the default value for its
+     * return type and equality is identity.
+     */
+    static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return type.getSimpleName() + "Stub";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
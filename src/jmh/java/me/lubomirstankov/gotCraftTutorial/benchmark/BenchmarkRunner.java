@@ -0,0 +1,43 @@
+package me.lubomirstankov.gotCraftTutorial.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so every result also reports
+ * allocated bytes per operation ({@code gc.alloc.rate.norm}).
+ * With {@code smoke} as second argument, every benchmark method runs once instead,
+ * in-process, and any failure fails the run; the jmh profile does this on {@code test}.
+ */
+public final class BenchmarkRunner {
+    private static final String SMOKE = "smoke";
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * @param args Optional benchmark name regex, defaults to every benchmark in this package,
+     *             then optionally {@code smoke}
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 && !args[0].isBlank() ? args[0] : BenchmarkRunner.class.getPackageName() + ".*";
+        boolean smoke = args.length > 1 && SMOKE.equals(args[1]);
+
+        ChainedOptionsBuilder options = new OptionsBuilder().include(include);
+        if (smoke) {
+            options.mode(Mode.SingleShotTime)
+                .warmupIterations(0)
+                .measurementIterations(1)
+                .measurementBatchSize(1)
+                .forks(0)
+                .shouldFailOnError(true);
+        } else {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+}
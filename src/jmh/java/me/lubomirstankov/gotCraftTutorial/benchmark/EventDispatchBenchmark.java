@@ -0,0 +1,130 @@
+package me.lubomirstankov.gotCraftTutorial.benchmark;
+
+import me.lubomirstankov.gotCraftTutorial.event.TutorialListener;
+import me.lubomirstankov.gotCraftTutorial.event.TutorialStepChangeEvent;
+import me.lubomirstankov.gotCraftTutorial.metrics.TutorialMetrics;
+import me.lubomirstankov.gotCraftTutorial.service.TutorialEventDispatcher;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.RegisteredListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Cost of one step transition's event with zero, one and many listeners,
+ * through the dispatcher's fast path, through unconditional construction and dispatch,
+ * and through the same number of direct {@link TutorialListener}s instead of Bukkit listeners.
+ * The plugin manager stub dispatches like Bukkit's: every baked listener of the event's handler list, in order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDispatchBenchmark {
+    @Param({"0", "1", "16"})
+    public int listeners;
+
+    private Plugin plugin;
+    private PluginManager pluginManager;
+    private TutorialEventDispatcher dispatcher;
+    private TutorialEventDispatcher directDispatcher;
+    private Player player;
+    private Location location;
+    private long delivered;
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkParams params) {
+        // The handler list is static, so the direct listener trial must leave it empty
+        boolean direct = params.getBenchmark().endsWith(".directListeners");
+        plugin = BenchmarkFixtures.stub(Plugin.class);
+        pluginManager = dispatchingPluginManager();
+        dispatcher = new TutorialEventDispatcher(pluginManager, new TutorialMetrics(() -> 0), Logger.getLogger("benchmark"));
+        player = BenchmarkFixtures.player(UUID.randomUUID(), "player");
+        location = new Location(null, 0.5, 64.0, 0.5);
+
+        Listener listener = new Listener() {
+        };
+        EventExecutor executor = (target, event) -> delivered++;
+        for (int i = 0; i < (direct ? 0 : listeners); i++) {
+            TutorialStepChangeEvent.getHandlerList().register(new RegisteredListener(listener, executor, EventPriority.NORMAL, plugin, false));
+        }
+
+        directDispatcher = new TutorialEventDispatcher(BenchmarkFixtures.stub(PluginManager.class), new TutorialMetrics(() -> 0), Logger.getLogger("benchmark"));
+        TutorialListener counting = new TutorialListener() {
+            @Override
+            public void onStepChange(UUID playerId, int previousStep, int newStep, int totalSteps, long elapsedMillis) {
+                delivered++;
+            }
+        };
+        for (int i = 0; i < listeners; i++) {
+            directDispatcher.register(counting, null);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        HandlerList.unregisterAll(plugin);
+    }
+
+    @Benchmark
+    public long fastPath() {
+        dispatcher.fireStepChange(player, 0L, 1, 2, 5, location);
+        return delivered;
+    }
+
+    @Benchmark
+    public long directListeners() {
+        directDispatcher.fireStepChange(player, 0L, 1, 2, 5, location);
+        return delivered;
+    }
+
+    @Benchmark
+    public long alwaysDispatch() {
+        pluginManager.callEvent(new TutorialStepChangeEvent(player, 1, 2, 5, location));
+        return delivered;
+    }
+
+    private static PluginManager dispatchingPluginManager() {
+        return (PluginManager) Proxy.newProxyInstance(PluginManager.class.getClassLoader(), new Class<?>[]{PluginManager.class}, (proxy, method, args) -> {
+            if (method.getName().equals("callEvent")) {
+                Event event = (Event) args[0];
+                for (RegisteredListener registration : event.getHandlers().getRegisteredListeners()) {
+                    try {
+                        registration.callEvent(event);
+                    } catch (EventException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return null;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
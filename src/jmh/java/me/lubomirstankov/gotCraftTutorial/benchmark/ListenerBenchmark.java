@@ -0,0 +1,144 @@
+package me.lubomirstankov.gotCraftTutorial.benchmark;
+
+import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigSnapshot;
+import me.lubomirstankov.gotCraftTutorial.config.FreezeMode;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialDefinition;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialSession;
+import me.lubomirstankov.gotCraftTutorial.util.CommandNameSet;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decision logic of the movement and command listeners, for players outside and inside
+ * a session: the settings flags, the session table and the allowed command set, checked in
+ * the order {@code PlayerMovementListener} and {@code CommandBlockListener} check them.
+ * Events are reused, so only the decision is measured; the teleport or message that follows
+ * a blocked event is not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerBenchmark {
+    private ConfigSnapshot settings;
+    private Map<UUID, TutorialSession> sessions;
+    private CommandNameSet allowedCommands;
+
+    private PlayerMoveEvent idleRotation;
+    private PlayerMoveEvent idleWalk;
+    private PlayerMoveEvent frozenJitter;
+    private PlayerMoveEvent frozenWalk;
+    private PlayerCommandPreprocessEvent idleCommand;
+    private PlayerCommandPreprocessEvent frozenBlockedCommand;
+    private PlayerCommandPreprocessEvent frozenAllowedCommand;
+
+    @Param({"teleport", "cancel"})
+    public String freezeMode;
+
+    @Setup
+    public void setup() {
+        YamlConfiguration config = BenchmarkFixtures.defaultConfig();
+        config.set("tutorial.freeze-mode", freezeMode);
+        settings = BenchmarkFixtures.settings(config);
+        sessions = new ConcurrentHashMap<>();
+        allowedCommands = CommandNameSet.of(settings.getAllowedCommands());
+
+        Player idle = BenchmarkFixtures.player(UUID.randomUUID(), "idle");
+        Player frozen = BenchmarkFixtures.player(UUID.randomUUID(), "frozen");
+        sessions.put(frozen.getUniqueId(), new TutorialSession(frozen, TutorialDefinition.of(ConfigManager.DEFAULT_TUTORIAL, 1L, List.of())));
+
+        Location from = new Location(null, 10.5, 64.0, 10.5, 0F, 0F);
+        idleRotation = new PlayerMoveEvent(idle, from, new Location(null, 10.5, 64.0, 10.5, 45F, 10F));
+        idleWalk = new PlayerMoveEvent(idle, from, new Location(null, 11.5, 64.0, 10.5, 0F, 0F));
+        frozenJitter = new PlayerMoveEvent(frozen, from, new Location(null, 10.6, 64.0, 10.5, 0F, 0F));
+        frozenWalk = new PlayerMoveEvent(frozen, from, new Location(null, 11.5, 64.0, 10.5, 0F, 0F));
+
+        idleCommand = new PlayerCommandPreprocessEvent(idle, "/spawn");
+        frozenBlockedCommand = new PlayerCommandPreprocessEvent(frozen, "/spawn");
+        frozenAllowedCommand = new PlayerCommandPreprocessEvent(frozen, "/tutorial stop");
+    }
+
+    /**
+     * Whether the movement listener would correct the move.
+     */
+    private boolean correctsMove(PlayerMoveEvent event) {
+        if (!settings.shouldFreezePlayers() || !event.hasChangedPosition()) {
+            return false;
+        }
+        if (!sessions.containsKey(event.getPlayer().getUniqueId())) {
+            return false;
+        }
+        return settings.getFreezeMode() == FreezeMode.TELEPORT || event.hasChangedBlock();
+    }
+
+    /**
+     * Whether the command listener would block the command.
+     */
+    private boolean blocksCommand(PlayerCommandPreprocessEvent event) {
+        if (!settings.shouldBlockCommands()) {
+            return false;
+        }
+        if (!sessions.containsKey(event.getPlayer().getUniqueId())) {
+            return false;
+        }
+        return !allowedCommands.matchesCommand(event.getMessage());
+    }
+
+    @Benchmark
+    public boolean moveRotationOnly() {
+        return correctsMove(idleRotation);
+    }
+
+    @Benchmark
+    public boolean moveWithoutSession() {
+        return correctsMove(idleWalk);
+    }
+
+    @Benchmark
+    public boolean moveInSessionWithinBlock() {
+        return correctsMove(frozenJitter);
+    }
+
+    @Benchmark
+    public boolean moveInSessionAcrossBlock() {
+        return correctsMove(frozenWalk);
+    }
+
+    @Benchmark
+    public boolean commandWithoutSession() {
+        return blocksCommand(idleCommand);
+    }
+
+    @Benchmark
+    public boolean commandInSessionBlocked() {
+        return blocksCommand(frozenBlockedCommand);
+    }
+
+    @Benchmark
+    public boolean commandInSessionAllowed() {
+        return blocksCommand(frozenAllowedCommand);
+    }
+}
@@ -0,0 +1,97 @@
+package me.lubomirstankov.gotCraftTutorial.benchmark;
+
+import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialDefinition;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialSession;
+import me.lubomirstankov.gotCraftTutorial.service.CooldownService;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session and cooldown lookups with large tables, as done by
+ * {@code TutorialManager.hasActiveSession} and {@code isOnCooldown}. Probes cycle
+ * through a fixed set of players so hits spread over the whole table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+    private static final int PROBES = 1024;
+    private static final long COOLDOWN_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @Param({"10000", "100000"})
+    public int entries;
+
+    private Map<UUID, TutorialSession> sessions;
+    private CooldownService cooldowns;
+    private Player[] present;
+    private Player[] absent;
+    private int probe;
+
+    @Setup
+    public void setup() {
+        sessions = new ConcurrentHashMap<>();
+        cooldowns = BenchmarkFixtures.cooldowns();
+        TutorialDefinition definition = TutorialDefinition.of(ConfigManager.DEFAULT_TUTORIAL, 1L, List.of());
+
+        present = new Player[PROBES];
+        int stride = entries / PROBES;
+        for (int i = 0; i < entries; i++) {
+            Player player = BenchmarkFixtures.player(UUID.randomUUID(), "player" + i);
+            sessions.put(player.getUniqueId(), new TutorialSession(player, definition));
+            cooldowns.start(player.getUniqueId(), COOLDOWN_MILLIS);
+            if (i % stride == 0 && i / stride < PROBES) {
+                present[i / stride] = player;
+            }
+        }
+
+        absent = new Player[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            absent[i] = BenchmarkFixtures.player(UUID.randomUUID(), "absent" + i);
+        }
+    }
+
+    private int nextProbe() {
+        probe = (probe + 1) & (PROBES - 1);
+        return probe;
+    }
+
+    @Benchmark
+    public boolean hasActiveSessionHit() {
+        return sessions.containsKey(present[nextProbe()].getUniqueId());
+    }
+
+    @Benchmark
+    public boolean hasActiveSessionMiss() {
+        return sessions.containsKey(absent[nextProbe()].getUniqueId());
+    }
+
+    @Benchmark
+    public boolean isOnCooldownHit() {
+        return cooldowns.isOnCooldown(present[nextProbe()].getUniqueId());
+    }
+
+    @Benchmark
+    public boolean isOnCooldownMiss() {
+        return cooldowns.isOnCooldown(absent[nextProbe()].getUniqueId());
+    }
+}
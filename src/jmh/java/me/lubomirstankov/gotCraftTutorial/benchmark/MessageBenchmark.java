@@ -0,0 +1,52 @@
+package me.lubomirstankov.gotCraftTutorial.benchmark;
+
+import me.lubomirstankov.gotCraftTutorial.config.MessageRegistry;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message rendering on the command and cooldown paths, as done by {@code ConfigManager.getMessage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBenchmark {
+    private MessageRegistry messages;
+    private Map<String, String> schedulerValues;
+
+    @Setup
+    public void setup() {
+        messages = BenchmarkFixtures.settings(BenchmarkFixtures.defaultConfig()).getMessages();
+        schedulerValues = Map.of("count", "120", "fired", "4", "peak", "17");
+    }
+
+    @Benchmark
+    public Component messageWithoutPlaceholders() {
+        return messages.get("tutorial-starting").asComponent();
+    }
+
+    @Benchmark
+    public Component messageWithPlaceholder() {
+        return messages.get("tutorial-on-cooldown").render("time", "4m 30s");
+    }
+
+    @Benchmark
+    public Component messageWithPlaceholderMap() {
+        return messages.get("info.scheduler").render(schedulerValues);
+    }
+}
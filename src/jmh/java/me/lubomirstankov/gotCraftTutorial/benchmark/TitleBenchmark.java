@@ -0,0 +1,69 @@
+package me.lubomirstankov.gotCraftTutorial.benchmark;
+
+import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigSnapshot;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialDefinition;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialStep;
+import net.kyori.adventure.title.Title;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Title and subtitle construction for a step, compared with the pre-built
+ * title that {@code TutorialManager.showStep} actually sends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TitleBenchmark {
+    private static final int STEPS = 8;
+
+    private String tutorialTitle;
+    private String subtitleFormat;
+    private TutorialDefinition definition;
+    private int stepIndex;
+
+    @Setup
+    public void setup() {
+        ConfigSnapshot settings = BenchmarkFixtures.settings(BenchmarkFixtures.defaultConfig());
+        tutorialTitle = settings.getTutorialTitle();
+        subtitleFormat = settings.getSubtitleFormat();
+
+        List<TutorialStep> steps = new ArrayList<>();
+        for (int i = 0; i < STEPS; i++) {
+            steps.add(new TutorialStep(i, null, List.of(), TutorialStep.buildTitle(tutorialTitle, subtitleFormat, i, STEPS), List.of()));
+        }
+        definition = TutorialDefinition.of(ConfigManager.DEFAULT_TUTORIAL, 1L, steps);
+    }
+
+    @Benchmark
+    public Title buildFirstStepTitle() {
+        return TutorialStep.buildTitle(tutorialTitle, subtitleFormat, 0, STEPS);
+    }
+
+    @Benchmark
+    public Title buildLaterStepTitle() {
+        return TutorialStep.buildTitle(tutorialTitle, subtitleFormat, 3, STEPS);
+    }
+
+    @Benchmark
+    public Title prebuiltStepTitle() {
+        stepIndex = (stepIndex + 1) & (STEPS - 1);
+        return definition.getStep(stepIndex).getTitle();
+    }
+}
@@ -4,14 +4,20 @@ import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
 import me.lubomirstankov.gotCraftTutorial.service.CommandRegistrationService;
 import me.lubomirstankov.gotCraftTutorial.service.ListenerRegistrationService;
 import me.lubomirstankov.gotCraftTutorial.service.TutorialManager;
+import me.lubomirstankov.gotCraftTutorial.storage.IoExecutor;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Main plugin class for GotCraftTutorial.
  * Delegates all logic to service classes following clean architecture principles.
  */
 public final class GotCraftTutorial extends JavaPlugin {
+    private static final int IO_MAX_CONCURRENT = 4;
+    private static final long IO_SHUTDOWN_SECONDS = 10L;
 
+    private IoExecutor io;
     private ConfigManager configManager;
     private TutorialManager tutorialManager;
     private CommandRegistrationService commandRegistrationService;
@@ -36,6 +42,16 @@ public final class GotCraftTutorial extends JavaPlugin {
             tutorialManager.cleanup();
         }
 
+        // Write any debounced config edits
+        if (configManager != null) {
+            configManager.flush().exceptionally(e -> null).join();
+        }
+
+        // Drain the remaining disk writes
+        if (io != null && !io.shutdown(IO_SHUTDOWN_SECONDS, TimeUnit.SECONDS)) {
+            getLogger().warning("Timed out waiting for pending disk writes");
+        }
+
         getLogger().info("GotCraftTutorial has been disabled!");
     }
 
@@ -43,8 +59,9 @@ public final class GotCraftTutorial extends JavaPlugin {
      * Initializes all service classes with proper dependency injection.
      */
     private void initializeServices() {
-        this.configManager = new ConfigManager(this);
-        this.tutorialManager = new TutorialManager(this, configManager);
+        this.io = new IoExecutor(IO_MAX_CONCURRENT, getLogger());
+        this.configManager = new ConfigManager(this, io);
+        this.tutorialManager = new TutorialManager(this, configManager, io);
         this.commandRegistrationService = new CommandRegistrationService(this, configManager, tutorialManager);
         this.listenerRegistrationService = new ListenerRegistrationService(this, configManager, tutorialManager);
     }
@@ -57,6 +74,14 @@ public final class GotCraftTutorial extends JavaPlugin {
         return configManager;
     }
 
+    /**
+     * Gets the executor all file and storage work runs on.
+     * @return IoExecutor instance
+     */
+    public IoExecutor getIo() {
+        return io;
+    }
+
     /**
      * Gets the tutorial manager instance.
      * @return TutorialManager instance
@@ -1,7 +1,22 @@
 package me.lubomirstankov.gotCraftTutorial.command;
 
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
 import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.config.MessageRegistry;
+import me.lubomirstankov.gotCraftTutorial.metrics.AnalyticsRecorder;
+import me.lubomirstankov.gotCraftTutorial.metrics.FunnelReport;
+import me.lubomirstankov.gotCraftTutorial.metrics.LatencyHistogram;
+import me.lubomirstankov.gotCraftTutorial.metrics.TutorialMetrics;
+import me.lubomirstankov.gotCraftTutorial.service.AdmissionController;
+import me.lubomirstankov.gotCraftTutorial.service.CameraDriver;
+import me.lubomirstankov.gotCraftTutorial.service.CommandDispatchQueue;
+import me.lubomirstankov.gotCraftTutorial.service.CooldownService;
+import me.lubomirstankov.gotCraftTutorial.service.SessionScheduler;
+import me.lubomirstankov.gotCraftTutorial.service.TeleportLatencyTracker;
 import me.lubomirstankov.gotCraftTutorial.service.TutorialManager;
+import me.lubomirstankov.gotCraftTutorial.storage.CachedTutorialStorage;
+import me.lubomirstankov.gotCraftTutorial.storage.IoExecutor;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
 import net.kyori.adventure.text.Component;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -12,17 +27,22 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
 
 /**
  * Handles the /guideadmin command for administrators.
  */
 public class GuideAdminCommand implements CommandExecutor, TabCompleter {
     private static final String PERMISSION = "gotcrafttutorial.admin";
+    private static final Pattern TUTORIAL_ID = Pattern.compile("[a-z0-9_-]+");
 
+    private final GotCraftTutorial plugin;
     private final ConfigManager configManager;
     private final TutorialManager tutorialManager;
 
-    public GuideAdminCommand(ConfigManager configManager, TutorialManager tutorialManager) {
+    public GuideAdminCommand(GotCraftTutorial plugin, ConfigManager configManager, TutorialManager tutorialManager) {
+        this.plugin = plugin;
         this.configManager = configManager;
         this.tutorialManager = tutorialManager;
     }
@@ -30,7 +50,7 @@ public class GuideAdminCommand implements CommandExecutor, TabCompleter {
     @Override
     public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
         if (!sender.hasPermission(PERMISSION)) {
-            sender.sendMessage(Component.text(configManager.getMessage("command-no-permission")));
+            sender.sendMessage(configManager.getMessage("command-no-permission"));
             return true;
         }
 
@@ -42,20 +62,44 @@ public class GuideAdminCommand implements CommandExecutor, TabCompleter {
         String subcommand = args[0].toLowerCase();
 
         switch (subcommand) {
+            case "reload" -> {
+                return handleReload(sender);
+            }
+            case "list" -> {
+                return handleList(sender);
+            }
+            case "stats" -> {
+                return handleStats(sender, args);
+            }
+            case "analytics" -> {
+                return handleAnalytics(sender, args);
+            }
+            case "tutorial" -> {
+                return handleTutorial(sender, label, args);
+            }
+            default -> {
+                return handleEdit(sender, label, ConfigManager.DEFAULT_TUTORIAL, args);
+            }
+        }
+    }
+
+    /**
+     * Runs an editing subcommand against a tutorial.
+     * @param args Arguments starting with the subcommand name
+     */
+    private boolean handleEdit(CommandSender sender, String label, String tutorialId, String[] args) {
+        switch (args[0].toLowerCase()) {
             case "setpoint" -> {
-                return handleSetPoint(sender, args);
+                return handleSetPoint(sender, tutorialId, args);
             }
             case "settitle" -> {
-                return handleSetTitle(sender, args);
+                return handleSetTitle(sender, tutorialId, args);
             }
             case "setmotd" -> {
-                return handleSetMotd(sender, args);
-            }
-            case "reload" -> {
-                return handleReload(sender);
+                return handleSetMotd(sender, tutorialId, args);
             }
             case "info" -> {
-                return handleInfo(sender);
+                return handleInfo(sender, tutorialId);
             }
             default -> {
                 sendHelp(sender, label);
@@ -64,9 +108,153 @@ public class GuideAdminCommand implements CommandExecutor, TabCompleter {
         }
     }
 
-    private boolean handleSetPoint(CommandSender sender, String[] args) {
+    private boolean handleTutorial(CommandSender sender, String label, String[] args) {
+        if (args.length < 3) {
+            sender.sendMessage(Component.text("§cUsage: /guideadmin tutorial <id> <setpoint|settitle|setmotd|info> [args...]"));
+            return true;
+        }
+
+        // "stop" is reserved by /tutorial stop
+        String tutorialId = args[1].toLowerCase();
+        if (!TUTORIAL_ID.matcher(tutorialId).matches() || tutorialId.equals("stop")) {
+            sender.sendMessage(configManager.getMessage("admin-tutorial-invalid", "id", args[1]));
+            return true;
+        }
+
+        // Only editing commands may create a new tutorial
+        String subcommand = args[2].toLowerCase();
+        if (!tutorialManager.getRegistry().exists(tutorialId) && !subcommand.equals("setpoint") && !subcommand.equals("settitle") && !subcommand.equals("setmotd")) {
+            sender.sendMessage(configManager.getMessage("tutorial-unknown", "id", tutorialId));
+            return true;
+        }
+
+        return handleEdit(sender, label, tutorialId, Arrays.copyOfRange(args, 2, args.length));
+    }
+
+    private boolean handleList(CommandSender sender) {
+        sender.sendMessage(configManager.getMessage("admin-tutorial-list-header"));
+        for (String tutorialId : tutorialManager.getRegistry().getIds()) {
+            sender.sendMessage(configManager.getMessage("admin-tutorial-list-entry", Map.of(
+                "id", tutorialId,
+                "steps", String.valueOf(configManager.getTutorialPoints(tutorialId).size())
+            )));
+        }
+        return true;
+    }
+
+    private boolean handleAnalytics(CommandSender sender, String[] args) {
+        AnalyticsRecorder analytics = tutorialManager.getAnalytics();
+        if (analytics == null) {
+            sender.sendMessage(configManager.getMessage("admin-analytics-disabled"));
+            return true;
+        }
+
+        String tutorialId = args.length > 1 ? args[1].toLowerCase() : ConfigManager.DEFAULT_TUTORIAL;
+        if (!TUTORIAL_ID.matcher(tutorialId).matches()) {
+            sender.sendMessage(configManager.getMessage("admin-tutorial-invalid", "id", tutorialId));
+            return true;
+        }
+
+        // The log is streamed on the I/O executor; the report is sent back on the global region
+        analytics.analyze(tutorialId).whenComplete((report, error) -> Schedulers.runGlobal(plugin, () -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "Could not read the analytics log", error);
+                sender.sendMessage(configManager.getMessage("admin-analytics-failed"));
+                return;
+            }
+            sendFunnel(sender, report, analytics.getDropped());
+        }));
+        return true;
+    }
+
+    private void sendFunnel(CommandSender sender, FunnelReport report, long dropped) {
+        sender.sendMessage(configManager.getMessage("analytics.header", "tutorial", report.getTutorialId()));
+        if (report.getStarts() == 0 && report.getStepCount() == 0) {
+            sender.sendMessage(configManager.getMessage("analytics.empty"));
+        } else {
+            sender.sendMessage(configManager.getMessage("analytics.sessions", Map.of(
+                "started", String.valueOf(report.getStarts()),
+                "completed", String.valueOf(report.getCompletions()),
+                "rate", String.format("%.1f", report.getCompletionRate())
+            )));
+            for (int i = 0; i < report.getStepCount(); i++) {
+                sender.sendMessage(configManager.getMessage("analytics.step", Map.of(
+                    "step", String.valueOf(i + 1),
+                    "entered", String.valueOf(report.getEntered(i)),
+                    "dwell", String.format("%.1f", report.getAverageDwellSeconds(i)),
+                    "abandoned", String.valueOf(report.getAbandoned(i)),
+                    "rate", String.format("%.1f", report.getAbandonRate(i))
+                )));
+            }
+        }
+        sender.sendMessage(configManager.getMessage("analytics.log", Map.of(
+            "files", String.valueOf(report.getFiles()),
+            "size", String.valueOf(report.getBytes() / 1024),
+            "events", String.valueOf(report.getEvents()),
+            "dropped", String.valueOf(dropped)
+        )));
+        sender.sendMessage(configManager.getMessage("analytics.footer"));
+    }
+
+    private boolean handleStats(CommandSender sender, String[] args) {
+        TutorialMetrics metrics = tutorialManager.getMetrics();
+        if (args.length > 1 && args[1].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            sender.sendMessage(configManager.getMessage("admin-stats-reset"));
+            return true;
+        }
+
+        sender.sendMessage(configManager.getMessage("stats.header"));
+        sender.sendMessage(configManager.getMessage("stats.sessions", Map.of(
+            "active", String.valueOf(metrics.getActiveSessions()),
+            "starts", String.valueOf(metrics.getStarts()),
+            "completions", String.valueOf(metrics.getCompletions()),
+            "abandons", String.valueOf(metrics.getAbandons()),
+            "queued", String.valueOf(metrics.getQueuedStarts())
+        )));
+        sender.sendMessage(configManager.getMessage("stats.listeners", Map.of(
+            "corrections", String.valueOf(metrics.getFreezeCorrections()),
+            "blocked", String.valueOf(metrics.getCommandsBlocked())
+        )));
+
+        sendLatency(sender, "start", metrics.getStartTime());
+        sendLatency(sender, "step", metrics.getStepTime());
+        sendLatency(sender, "stop", metrics.getStopTime());
+        sendLatency(sender, "complete", metrics.getCompleteTime());
+        sendLatency(sender, "teleport", metrics.getTeleportTime());
+        sendLatency(sender, "events", metrics.getEventDispatchTime());
+        sendLatency(sender, "move-listener", metrics.getMoveListenerTime());
+        sendLatency(sender, "command-listener", metrics.getCommandListenerTime());
+
+        long[] abandonsPerStep = metrics.getAbandonsPerStep();
+        for (int i = 0; i < abandonsPerStep.length; i++) {
+            if (abandonsPerStep[i] > 0) {
+                sender.sendMessage(configManager.getMessage("stats.abandons-step", Map.of(
+                    "step", String.valueOf(i + 1),
+                    "count", String.valueOf(abandonsPerStep[i])
+                )));
+            }
+        }
+        sender.sendMessage(configManager.getMessage("stats.footer"));
+        return true;
+    }
+
+    private void sendLatency(CommandSender sender, String name, LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+        sender.sendMessage(configManager.getMessage("stats.latency", Map.of(
+            "name", name,
+            "mean", String.format("%.3f", histogram.getMeanMillis()),
+            "p99", String.format("%.3f", histogram.getPercentileMillis(99)),
+            "max", String.format("%.3f", histogram.getMaxMillis()),
+            "count", String.valueOf(histogram.getCount())
+        )));
+    }
+
+    private boolean handleSetPoint(CommandSender sender, String tutorialId, String[] args) {
         if (!(sender instanceof Player player)) {
-            sender.sendMessage(Component.text(configManager.getMessage("command-player-only")));
+            sender.sendMessage(configManager.getMessage("command-player-only"));
             return true;
         }
 
@@ -79,39 +267,36 @@ public class GuideAdminCommand implements CommandExecutor, TabCompleter {
             int pointNumber = Integer.parseInt(args[1]);
 
             if (pointNumber < 0) {
-                sender.sendMessage(Component.text(configManager.getMessage("admin-point-invalid")));
+                sender.sendMessage(configManager.getMessage("admin-point-invalid"));
                 return true;
             }
 
-            configManager.setTutorialPoint(pointNumber, player.getLocation());
-            tutorialManager.loadTutorialSteps(); // Reload steps
+            configManager.setTutorialPoint(tutorialId, pointNumber, player.getLocation());
+            tutorialManager.updateStep(tutorialId, pointNumber);
 
-            Map<String, String> placeholders = new HashMap<>();
-            placeholders.put("number", String.valueOf(pointNumber));
-            sender.sendMessage(Component.text(configManager.getMessage("admin-point-set", placeholders)));
+            sender.sendMessage(configManager.getMessage("admin-point-set", "number", String.valueOf(pointNumber)));
             return true;
         } catch (NumberFormatException e) {
-            sender.sendMessage(Component.text(configManager.getMessage("admin-invalid-number")));
+            sender.sendMessage(configManager.getMessage("admin-invalid-number"));
             return true;
         }
     }
 
-    private boolean handleSetTitle(CommandSender sender, String[] args) {
+    private boolean handleSetTitle(CommandSender sender, String tutorialId, String[] args) {
         if (args.length < 2) {
             sender.sendMessage(Component.text("§cUsage: /guideadmin settitle <title>"));
             return true;
         }
 
         String title = String.join(" ", Arrays.copyOfRange(args, 1, args.length));
-        configManager.setTutorialTitle(title);
+        configManager.setTutorialTitle(tutorialId, title);
+        tutorialManager.refreshTitles(tutorialId);
 
-        Map<String, String> placeholders = new HashMap<>();
-        placeholders.put("title", title.replace("&", "§"));
-        sender.sendMessage(Component.text(configManager.getMessage("admin-title-set", placeholders)));
+        sender.sendMessage(configManager.getRichMessage("admin-title-set", Map.of("title", MessageRegistry.parse(title))));
         return true;
     }
 
-    private boolean handleSetMotd(CommandSender sender, String[] args) {
+    private boolean handleSetMotd(CommandSender sender, String tutorialId, String[] args) {
         if (args.length < 4) {
             sender.sendMessage(Component.text("§cUsage: /guideadmin setmotd <point number> <line number> <text>"));
             return true;
@@ -122,53 +307,147 @@ public class GuideAdminCommand implements CommandExecutor, TabCompleter {
             int lineNumber = Integer.parseInt(args[2]);
 
             if (pointNumber < 0 || lineNumber < 0) {
-                sender.sendMessage(Component.text(configManager.getMessage("admin-point-invalid")));
+                sender.sendMessage(configManager.getMessage("admin-point-invalid"));
                 return true;
             }
 
             String text = String.join(" ", Arrays.copyOfRange(args, 3, args.length));
-            configManager.setMotdLine(pointNumber, lineNumber, text);
-            tutorialManager.loadTutorialSteps(); // Reload steps
-
-            Map<String, String> placeholders = new HashMap<>();
-            placeholders.put("point", String.valueOf(pointNumber));
-            placeholders.put("line", String.valueOf(lineNumber));
-            placeholders.put("text", text.replace("&", "§"));
-            sender.sendMessage(Component.text(configManager.getMessage("admin-motd-set", placeholders)));
+            configManager.setMotdLine(tutorialId, pointNumber, lineNumber, text);
+            tutorialManager.updateStep(tutorialId, pointNumber);
+
+            Map<String, Component> placeholders = new HashMap<>();
+            placeholders.put("point", Component.text(pointNumber));
+            placeholders.put("line", Component.text(lineNumber));
+            placeholders.put("text", MessageRegistry.parse(text));
+            sender.sendMessage(configManager.getRichMessage("admin-motd-set", placeholders));
             return true;
         } catch (NumberFormatException e) {
-            sender.sendMessage(Component.text(configManager.getMessage("admin-invalid-number")));
+            sender.sendMessage(configManager.getMessage("admin-invalid-number"));
             return true;
         }
     }
 
     private boolean handleReload(CommandSender sender) {
-        configManager.loadConfig();
-        tutorialManager.loadTutorialSteps();
-        sender.sendMessage(Component.text(configManager.getMessage("admin-config-reloaded")));
+        // The file is read on the I/O executor; tutorials are re-indexed back on the global region
+        configManager.reloadAsync().whenComplete((ignored, error) -> Schedulers.runGlobal(plugin, () -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.SEVERE, "Could not reload config", error);
+                sender.sendMessage(configManager.getMessage("admin-config-reload-failed"));
+                return;
+            }
+            tutorialManager.loadTutorialSteps();
+            tutorialManager.loadAllowedCommands();
+            sender.sendMessage(configManager.getMessage("admin-config-reloaded"));
+        }));
         return true;
     }
 
-    private boolean handleInfo(CommandSender sender) {
-        List<String> infoLines = configManager.getInfoMenu(
-            tutorialManager.getStepCount(),
-            configManager.getMotdLines().size(),
+    private boolean handleInfo(CommandSender sender, String tutorialId) {
+        SessionScheduler scheduler = tutorialManager.getScheduler();
+        List<Component> runtimeLines = new ArrayList<>();
+        runtimeLines.add(configManager.getMessage("info.scheduler", Map.of(
+            "count", String.valueOf(scheduler.size()),
+            "fired", String.valueOf(scheduler.getLastTickFired()),
+            "peak", String.valueOf(scheduler.getPeakTickFired())
+        )));
+        CooldownService cooldowns = tutorialManager.getCooldowns();
+        runtimeLines.add(configManager.getMessage("info.cooldowns", Map.of(
+            "count", String.valueOf(cooldowns.size()),
+            "memory", String.valueOf(cooldowns.memoryFootprint() / 1024)
+        )));
+        AdmissionController admission = tutorialManager.getAdmission();
+        runtimeLines.add(configManager.getMessage("info.admission", Map.of(
+            "active", String.valueOf(tutorialManager.getActiveSessionCount()),
+            "max", String.valueOf(configManager.getSnapshot().getMaxConcurrentSessions()),
+            "queued", String.valueOf(admission.getQueueSize()),
+            "peak", String.valueOf(admission.getPeakQueued())
+        )));
+        CommandDispatchQueue commandQueue = tutorialManager.getCommandQueue();
+        runtimeLines.add(configManager.getMessage("info.command-queue", Map.of(
+            "depth", String.valueOf(commandQueue.getDepth()),
+            "peak", String.valueOf(commandQueue.getPeakDepth()),
+            "dispatched", String.valueOf(commandQueue.getTotalDispatched())
+        )));
+        for (Map.Entry<String, CommandDispatchQueue.CommandStats> entry : commandQueue.getStats().entrySet()) {
+            CommandDispatchQueue.CommandStats stats = entry.getValue();
+            runtimeLines.add(configManager.getMessage("info.command-timing", Map.of(
+                "command", entry.getKey(),
+                "avg", String.format("%.2f", stats.getAverageMillis()),
+                "max", String.format("%.2f", stats.getMaxMillis()),
+                "count", String.valueOf(stats.getCount())
+            )));
+        }
+        CameraDriver camera = tutorialManager.getCamera();
+        runtimeLines.add(configManager.getMessage("info.camera", Map.of(
+            "active", String.valueOf(camera.getActive()),
+            "peak", String.valueOf(camera.getPeakActive()),
+            "rejected", String.valueOf(camera.getRejected()),
+            "paths", String.valueOf(tutorialManager.getCameraPathCount())
+        )));
+        AnalyticsRecorder analytics = tutorialManager.getAnalytics();
+        if (analytics != null) {
+            runtimeLines.add(configManager.getMessage("info.analytics", Map.of(
+                "buffered", String.valueOf(analytics.getBuffered()),
+                "capacity", String.valueOf(analytics.getBufferCapacity()),
+                "written", String.valueOf(analytics.getWritten()),
+                "dropped", String.valueOf(analytics.getDropped())
+            )));
+        }
+        runtimeLines.add(configManager.getMessage("info.resume", "count", String.valueOf(tutorialManager.getSuspendedSessionCount())));
+        IoExecutor io = plugin.getIo();
+        runtimeLines.add(configManager.getMessage("info.io", Map.of(
+            "active", String.valueOf(io.getActive()),
+            "max", String.valueOf(io.getMaxConcurrent()),
+            "waiting", String.valueOf(io.getWaiting())
+        )));
+        CachedTutorialStorage storage = tutorialManager.getStorage();
+        runtimeLines.add(configManager.getMessage("info.storage", Map.of(
+            "backend", storage.getBackendName(),
+            "pending", String.valueOf(storage.getPending()),
+            "written", String.valueOf(storage.getWritten()),
+            "failed", String.valueOf(storage.getFailedFlushes())
+        )));
+        runtimeLines.add(configManager.getMessage("info.allowed-commands", "count", String.valueOf(tutorialManager.getAllowedCommandCount())));
+        runtimeLines.add(configManager.getMessage("info.preloaded-chunks", "count", String.valueOf(tutorialManager.getPreloadedChunkCount())));
+
+        TeleportLatencyTracker latency = tutorialManager.getTeleportLatency();
+        for (int i = 0; i < latency.getStepCount(); i++) {
+            if (latency.getCount(i) == 0) {
+                continue;
+            }
+            runtimeLines.add(configManager.getMessage("info.teleport-latency", Map.of(
+                "step", String.valueOf(i + 1),
+                "avg", String.format("%.1f", latency.getAverageMillis(i)),
+                "max", String.format("%.1f", latency.getMaxMillis(i)),
+                "count", String.valueOf(latency.getCount(i))
+            )));
+        }
+
+        runtimeLines.add(configManager.getMessage("info.tutorials", Map.of(
+            "count", String.valueOf(tutorialManager.getRegistry().getIds().size()),
+            "loaded", String.valueOf(tutorialManager.getRegistry().getLoadedCount())
+        )));
+
+        List<Component> infoLines = configManager.getInfoMenu(
+            tutorialManager.getStepCount(tutorialId),
+            configManager.getMotdLines(tutorialId).size(),
             configManager.getStepDelay(),
             configManager.getCooldown(),
             configManager.shouldFreezePlayers(),
-            configManager.shouldBlockCommands()
+            configManager.shouldBlockCommands(),
+            runtimeLines
         );
 
-        for (String line : infoLines) {
-            sender.sendMessage(Component.text(line));
+        for (Component line : infoLines) {
+            sender.sendMessage(line);
         }
         return true;
     }
 
     private void sendHelp(CommandSender sender, String label) {
-        List<String> helpLines = configManager.getHelpMenu();
-        for (String line : helpLines) {
-            sender.sendMessage(Component.text(line));
+        List<Component> helpLines = configManager.getHelpMenu();
+        for (Component line : helpLines) {
+            sender.sendMessage(line);
         }
     }
 
@@ -181,8 +460,23 @@ public class GuideAdminCommand implements CommandExecutor, TabCompleter {
             return completions;
         }
 
+        if (args.length > 2 && args[0].equalsIgnoreCase("tutorial")) {
+            // Complete the editing subcommand as if it were typed directly
+            String[] editArgs = Arrays.copyOfRange(args, 2, args.length);
+            if (editArgs.length == 1) {
+                completions.addAll(Arrays.asList("setpoint", "settitle", "setmotd", "info"));
+            } else {
+                completions.addAll(onTabComplete(sender, command, label, editArgs));
+            }
+            return completions;
+        }
+
         if (args.length == 1) {
-            completions.addAll(Arrays.asList("setpoint", "settitle", "setmotd", "reload", "info"));
+            completions.addAll(Arrays.asList("setpoint", "settitle", "setmotd", "reload", "info", "list", "tutorial", "stats", "analytics"));
+        } else if (args.length == 2 && (args[0].equalsIgnoreCase("tutorial") || args[0].equalsIgnoreCase("analytics"))) {
+            completions.addAll(tutorialManager.getRegistry().getIds());
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("stats")) {
+            completions.add("reset");
         } else if (args.length == 2) {
             if (args[0].equalsIgnoreCase("setpoint")) {
                 completions.add("<number>");
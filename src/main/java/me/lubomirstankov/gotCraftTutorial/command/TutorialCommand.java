@@ -28,7 +28,7 @@ public class TutorialCommand implements CommandExecutor, TabCompleter {
     @Override
     public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
         if (!(sender instanceof Player player)) {
-            sender.sendMessage(Component.text(configManager.getMessage("command-player-only")));
+            sender.sendMessage(configManager.getMessage("command-player-only"));
             return true;
         }
 
@@ -43,8 +43,14 @@ public class TutorialCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
+        if (args.length == 1) {
+            // Start a named tutorial
+            tutorialManager.startTutorial(player, args[0].toLowerCase());
+            return true;
+        }
+
         // Invalid subcommand
-        player.sendMessage(Component.text("§cUsage: /" + label + " [stop]"));
+        player.sendMessage(Component.text("§cUsage: /" + label + " [tutorial|stop]"));
         return true;
     }
 
@@ -54,7 +60,15 @@ public class TutorialCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
 
         if (args.length == 1) {
-            completions.add("stop");
+            String input = args[0].toLowerCase();
+            for (String id : tutorialManager.getRegistry().getIds()) {
+                if (id.startsWith(input)) {
+                    completions.add(id);
+                }
+            }
+            if ("stop".startsWith(input)) {
+                completions.add("stop");
+            }
         }
 
         return completions;
@@ -1,53 +1,206 @@
 package me.lubomirstankov.gotCraftTutorial.config;
 
 import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.storage.IoExecutor;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
-
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manages plugin configuration and provides access to config values.
  */
 public class ConfigManager {
-    private final GotCraftTutorial plugin;
-    private FileConfiguration config;
+    /**
+     * Id of the tutorial configured directly under {@code tutorial}.
+     */
+    public static final String DEFAULT_TUTORIAL = "default";
 
-    public ConfigManager(GotCraftTutorial plugin) {
+    private final GotCraftTutorial plugin;
+    private final IoExecutor io;
+    private final Path file;
+    private final Object configLock = new Object();
+    private final ConfigPersister persister;
+    private volatile FileConfiguration config;
+    private volatile ConfigSnapshot snapshot;
+
+    public ConfigManager(GotCraftTutorial plugin, IoExecutor io) {
         this.plugin = plugin;
+        this.io = io;
+        this.file = plugin.getDataFolder().toPath().resolve("config.yml");
+        this.persister = new ConfigPersister(plugin.getLogger(), io, file, this::serialize);
         loadConfig();
     }
 
     /**
-     * Loads or reloads the configuration from disk.
+     * Loads the configuration from disk on the calling thread.
+     * Only for startup, before any tick depends on the plugin; use {@link #reloadAsync()} afterwards.
+     * Pending in-game edits are written first so they are not lost.
      */
     public void loadConfig() {
+        persister.flush().join();
         plugin.saveDefaultConfig();
         plugin.reloadConfig();
-        this.config = plugin.getConfig();
+        synchronized (configLock) {
+            this.config = plugin.getConfig();
+        }
+        this.snapshot = ConfigSnapshot.of(config);
+    }
+
+    /**
+     * Reloads the configuration on the I/O executor. Pending in-game edits are written first
+     * so they are not lost; the parsed config and its snapshot are published together once
+     * the file has been read.
+     * @return Future completed off the main thread once the new settings are live
+     */
+    public CompletableFuture<Void> reloadAsync() {
+        return persister.flush().thenCompose(ignored -> io.supply(this::readConfig)).thenAccept(loaded -> {
+            ConfigSnapshot loadedSnapshot = ConfigSnapshot.of(loaded);
+            synchronized (configLock) {
+                this.config = loaded;
+                this.snapshot = loadedSnapshot;
+            }
+        });
+    }
+
+    /**
+     * Reads and parses the config file, with the bundled config as defaults.
+     * Runs on the I/O executor.
+     */
+    private FileConfiguration readConfig() throws IOException {
+        if (Files.notExists(file)) {
+            plugin.saveDefaultConfig();
+        }
+
+        YamlConfiguration loaded = new YamlConfiguration();
+        try {
+            loaded.loadFromString(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (InvalidConfigurationException e) {
+            throw new IOException("Invalid YAML in " + file.getFileName(), e);
+        }
+
+        try (InputStream defaults = plugin.getResource("config.yml")) {
+            if (defaults != null) {
+                loaded.setDefaults(YamlConfiguration.loadConfiguration(new InputStreamReader(defaults, StandardCharsets.UTF_8)));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Rebuilds the settings snapshot after an in-game edit.
+     */
+    private void refreshSnapshot() {
+        this.snapshot = ConfigSnapshot.of(config);
+    }
+
+    /**
+     * Gets the current immutable settings snapshot.
+     * Hot paths should read this once per call instead of using the individual getters.
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Schedules the current configuration to be saved.
+     * Edits within a short window are coalesced and written off the main thread.
+     * @return Future completed once the edit is on disk
+     */
+    public CompletableFuture<Void> saveConfig() {
+        return persister.markDirty();
+    }
+
+    /**
+     * Writes any pending edits without waiting for the debounce window (for reload and disable).
+     * @return Future completed once the edits are on disk
+     */
+    public CompletableFuture<Void> flush() {
+        return persister.flush();
     }
 
     /**
-     * Saves the current configuration to disk.
+     * Serialises the configuration. Safe to call from the persister thread.
      */
-    public void saveConfig() {
-        plugin.saveConfig();
+    private String serialize() {
+        synchronized (configLock) {
+            return config.saveToString();
+        }
+    }
+
+    /**
+     * Gets the config path holding a tutorial's title, MOTD and points.
+     * The default tutorial lives under {@code tutorial}, named ones under {@code tutorials.<id>}.
+     */
+    private String tutorialPath(String tutorialId) {
+        return DEFAULT_TUTORIAL.equals(tutorialId) ? "tutorial" : "tutorials." + tutorialId;
+    }
+
+    /**
+     * Gets the ids of every configured tutorial, including the default one.
+     */
+    public Set<String> getTutorialIds() {
+        Set<String> ids = new LinkedHashSet<>();
+        ids.add(DEFAULT_TUTORIAL);
+
+        ConfigurationSection section = config.getConfigurationSection("tutorials");
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                ids.add(key);
+            }
+        }
+        return ids;
     }
 
     /**
      * Gets the tutorial title from config.
      */
     public String getTutorialTitle() {
-        return config.getString("tutorial.title", "&6&lGotCraft Tutorial");
+        return snapshot.getTutorialTitle();
+    }
+
+    /**
+     * Gets the title of a tutorial, falling back to the default tutorial's title.
+     */
+    public String getTutorialTitle(String tutorialId) {
+        return config.getString(tutorialPath(tutorialId) + ".title", snapshot.getTutorialTitle());
+    }
+
+    /**
+     * Gets the subtitle format of a tutorial, falling back to the default format.
+     */
+    public String getSubtitleFormat(String tutorialId) {
+        return config.getString(tutorialPath(tutorialId) + ".subtitle", snapshot.getSubtitleFormat());
     }
 
     /**
      * Sets the tutorial title in config.
      */
     public void setTutorialTitle(String title) {
-        config.set("tutorial.title", title);
+        setTutorialTitle(DEFAULT_TUTORIAL, title);
+    }
+
+    /**
+     * Sets the title of a tutorial in config.
+     */
+    public void setTutorialTitle(String tutorialId, String title) {
+        synchronized (configLock) {
+            config.set(tutorialPath(tutorialId) + ".title", title);
+        }
+        refreshSnapshot();
         saveConfig();
     }
 
@@ -57,18 +210,33 @@ public class ConfigManager {
      */
     @Deprecated
     public List<String> getMotdLines() {
-        return config.getStringList("tutorial.motd");
+        return snapshot.getDefaultMotdLines();
+    }
+
+    /**
+     * Gets the default MOTD lines of a tutorial, falling back to the global MOTD.
+     */
+    public List<String> getMotdLines(String tutorialId) {
+        List<String> lines = config.getStringList(tutorialPath(tutorialId) + ".motd");
+        return lines.isEmpty() ? snapshot.getDefaultMotdLines() : lines;
     }
 
     /**
      * Gets MOTD lines for a specific point.
      */
     public List<String> getMotdLinesForPoint(int pointNumber) {
-        List<String> lines = config.getStringList("tutorial.points." + pointNumber + ".motd");
+        return getMotdLinesForPoint(DEFAULT_TUTORIAL, pointNumber);
+    }
 
-        // Fallback to global MOTD if point-specific MOTD doesn't exist
+    /**
+     * Gets MOTD lines for a specific point of a tutorial.
+     */
+    public List<String> getMotdLinesForPoint(String tutorialId, int pointNumber) {
+        List<String> lines = config.getStringList(tutorialPath(tutorialId) + ".points." + pointNumber + ".motd");
+
+        // Fallback to the tutorial's MOTD if point-specific MOTD doesn't exist
         if (lines == null || lines.isEmpty()) {
-            lines = config.getStringList("tutorial.motd");
+            lines = getMotdLines(tutorialId);
         }
 
         return lines;
@@ -78,7 +246,14 @@ public class ConfigManager {
      * Sets a specific MOTD line for a specific point.
      */
     public void setMotdLine(int pointNumber, int lineNumber, String text) {
-        String path = "tutorial.points." + pointNumber + ".motd";
+        setMotdLine(DEFAULT_TUTORIAL, pointNumber, lineNumber, text);
+    }
+
+    /**
+     * Sets a specific MOTD line for a specific point of a tutorial.
+     */
+    public void setMotdLine(String tutorialId, int pointNumber, int lineNumber, String text) {
+        String path = tutorialPath(tutorialId) + ".points." + pointNumber + ".motd";
         List<String> motdLines = new ArrayList<>(config.getStringList(path));
 
         // Expand list if necessary
@@ -87,7 +262,9 @@ public class ConfigManager {
         }
 
         motdLines.set(lineNumber, text);
-        config.set(path, motdLines);
+        synchronized (configLock) {
+            config.set(path, motdLines);
+        }
         saveConfig();
     }
 
@@ -95,7 +272,9 @@ public class ConfigManager {
      * Sets all MOTD lines for a specific point.
      */
     public void setMotdForPoint(int pointNumber, List<String> motdLines) {
-        config.set("tutorial.points." + pointNumber + ".motd", motdLines);
+        synchronized (configLock) {
+            config.set("tutorial.points." + pointNumber + ".motd", motdLines);
+        }
         saveConfig();
     }
 
@@ -103,8 +282,15 @@ public class ConfigManager {
      * Gets all tutorial points from config.
      */
     public Map<Integer, Location> getTutorialPoints() {
+        return getTutorialPoints(DEFAULT_TUTORIAL);
+    }
+
+    /**
+     * Gets all points of a tutorial from config.
+     */
+    public Map<Integer, Location> getTutorialPoints(String tutorialId) {
         Map<Integer, Location> points = new HashMap<>();
-        ConfigurationSection pointsSection = config.getConfigurationSection("tutorial.points");
+        ConfigurationSection pointsSection = config.getConfigurationSection(tutorialPath(tutorialId) + ".points");
 
         if (pointsSection == null) {
             return points;
@@ -113,21 +299,9 @@ public class ConfigManager {
         for (String key : pointsSection.getKeys(false)) {
             try {
                 int stepNumber = Integer.parseInt(key);
-                ConfigurationSection pointSection = pointsSection.getConfigurationSection(key);
-
-                if (pointSection == null) {
-                    continue;
-                }
+                Location location = parsePoint(pointsSection.getConfigurationSection(key));
 
-                String worldName = pointSection.getString("world");
-                double x = pointSection.getDouble("x");
-                double y = pointSection.getDouble("y");
-                double z = pointSection.getDouble("z");
-                float yaw = (float) pointSection.getDouble("yaw", 0.0);
-                float pitch = (float) pointSection.getDouble("pitch", 0.0);
-
-                if (worldName != null && Bukkit.getWorld(worldName) != null) {
-                    Location location = new Location(Bukkit.getWorld(worldName), x, y, z, yaw, pitch);
+                if (location != null) {
                     points.put(stepNumber, location);
                 }
             } catch (NumberFormatException e) {
@@ -138,17 +312,53 @@ public class ConfigManager {
         return points;
     }
 
+    /**
+     * Gets a single point of a tutorial from config.
+     * @return Location, or null if the point is not set or its world is not loaded
+     */
+    public Location getTutorialPoint(String tutorialId, int stepNumber) {
+        return parsePoint(config.getConfigurationSection(tutorialPath(tutorialId) + ".points." + stepNumber));
+    }
+
+    private Location parsePoint(ConfigurationSection pointSection) {
+        if (pointSection == null) {
+            return null;
+        }
+
+        String worldName = pointSection.getString("world");
+        double x = pointSection.getDouble("x");
+        double y = pointSection.getDouble("y");
+        double z = pointSection.getDouble("z");
+        float yaw = (float) pointSection.getDouble("yaw", 0.0);
+        float pitch = (float) pointSection.getDouble("pitch", 0.0);
+
+        World world = worldName != null ? Bukkit.getWorld(worldName) : null;
+        if (world == null) {
+            return null;
+        }
+        return new Location(world, x, y, z, yaw, pitch);
+    }
+
     /**
      * Sets a tutorial point in config.
      */
     public void setTutorialPoint(int stepNumber, Location location) {
-        String path = "tutorial.points." + stepNumber;
-        config.set(path + ".world", location.getWorld().getName());
-        config.set(path + ".x", location.getX());
-        config.set(path + ".y", location.getY());
-        config.set(path + ".z", location.getZ());
-        config.set(path + ".yaw", location.getYaw());
-        config.set(path + ".pitch", location.getPitch());
+        setTutorialPoint(DEFAULT_TUTORIAL, stepNumber, location);
+    }
+
+    /**
+     * Sets a point of a tutorial in config.
+     */
+    public void setTutorialPoint(String tutorialId, int stepNumber, Location location) {
+        String path = tutorialPath(tutorialId) + ".points." + stepNumber;
+        synchronized (configLock) {
+            config.set(path + ".world", location.getWorld().getName());
+            config.set(path + ".x", location.getX());
+            config.set(path + ".y", location.getY());
+            config.set(path + ".z", location.getZ());
+            config.set(path + ".yaw", location.getYaw());
+            config.set(path + ".pitch", location.getPitch());
+        }
         saveConfig();
     }
 
@@ -156,28 +366,28 @@ public class ConfigManager {
      * Gets the step delay in ticks from config.
      */
     public long getStepDelay() {
-        return config.getLong("tutorial.step-delay-ticks", 100L);
+        return snapshot.getStepDelay();
     }
 
     /**
      * Gets the cooldown in seconds from config.
      */
     public int getCooldown() {
-        return config.getInt("tutorial.cooldown-seconds", 300);
+        return snapshot.getCooldown();
     }
 
     /**
      * Gets whether to freeze players during tutorial.
      */
     public boolean shouldFreezePlayers() {
-        return config.getBoolean("tutorial.freeze-players", true);
+        return snapshot.shouldFreezePlayers();
     }
 
     /**
      * Gets whether to block commands during tutorial.
      */
     public boolean shouldBlockCommands() {
-        return config.getBoolean("tutorial.block-commands", true);
+        return snapshot.shouldBlockCommands();
     }
 
     /**
@@ -185,7 +395,7 @@ public class ConfigManager {
      * @return List of commands with {player} placeholder
      */
     public List<String> getCompletionCommands() {
-        return config.getStringList("tutorial.completion-commands");
+        return snapshot.getCompletionCommands();
     }
 
     /**
@@ -233,63 +443,79 @@ public class ConfigManager {
     }
 
     /**
-     * Gets a message from config with color code support.
+     * Gets a pre-rendered message from config.
+     */
+    public Component getMessage(String key) {
+        return snapshot.getMessage(key);
+    }
+
+    /**
+     * Gets a message with a single placeholder replaced.
      */
-    public String getMessage(String key) {
-        return config.getString("messages." + key, "").replace("&", "§");
+    public Component getMessage(String key, String placeholder, String value) {
+        return snapshot.getMessages().get(key).render(placeholder, value);
     }
 
     /**
      * Gets a message with placeholder replacements.
      */
-    public String getMessage(String key, Map<String, String> placeholders) {
-        String message = getMessage(key);
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            message = message.replace("{" + entry.getKey() + "}", entry.getValue());
-        }
-        return message;
+    public Component getMessage(String key, Map<String, String> placeholders) {
+        return snapshot.getMessages().get(key).render(placeholders);
+    }
+
+    /**
+     * Gets a message with colored placeholder values, such as user-entered text with color codes.
+     */
+    public Component getRichMessage(String key, Map<String, Component> placeholders) {
+        return snapshot.getMessages().get(key).renderComponents(placeholders);
     }
 
     /**
      * Gets the subtitle format from config.
      */
     public String getSubtitleFormat() {
-        return config.getString("tutorial.subtitle", "&9Step {current} of {total}");
+        return snapshot.getSubtitleFormat();
     }
 
     /**
      * Gets help menu lines.
      */
-    public List<String> getHelpMenu() {
-        List<String> menu = new ArrayList<>();
+    public List<Component> getHelpMenu() {
+        List<Component> menu = new ArrayList<>();
         menu.add(getMessage("help.header"));
         menu.add(getMessage("help.setpoint"));
         menu.add(getMessage("help.settitle"));
         menu.add(getMessage("help.setmotd"));
         menu.add(getMessage("help.reload"));
         menu.add(getMessage("help.info"));
+        menu.add(getMessage("help.list"));
+        menu.add(getMessage("help.tutorial"));
+        menu.add(getMessage("help.stats"));
+        menu.add(getMessage("help.analytics"));
         menu.add(getMessage("help.footer"));
         return menu;
     }
 
     /**
      * Gets info menu lines with placeholders.
+     * @param runtimeLines Live status lines shown after the configuration values
      */
-    public List<String> getInfoMenu(int pointCount, int motdCount, long stepDelay, int cooldown, boolean freeze, boolean blockCmd) {
-        List<String> menu = new ArrayList<>();
+    public List<Component> getInfoMenu(int pointCount, int motdCount, long stepDelay, int cooldown, boolean freeze, boolean blockCmd, List<Component> runtimeLines) {
+        List<Component> menu = new ArrayList<>();
 
         // Add completion commands info
         List<String> completionCmds = getCompletionCommands();
-        menu.add("&3Completion Commands: &b" + completionCmds.size());
+        menu.add(MessageRegistry.parse("&3Completion Commands: &b" + completionCmds.size()));
 
         menu.add(getMessage("info.header"));
-        menu.add(getMessage("info.title").replace("{title}", getTutorialTitle().replace("&", "§")));
-        menu.add(getMessage("info.points").replace("{count}", String.valueOf(pointCount)));
-        menu.add(getMessage("info.motd-lines").replace("{count}", String.valueOf(motdCount)));
-        menu.add(getMessage("info.step-delay").replace("{ticks}", String.valueOf(stepDelay)));
-        menu.add(getMessage("info.cooldown").replace("{seconds}", String.valueOf(cooldown)));
-        menu.add(getMessage("info.freeze-players").replace("{value}", String.valueOf(freeze)));
-        menu.add(getMessage("info.block-commands").replace("{value}", String.valueOf(blockCmd)));
+        menu.add(getRichMessage("info.title", Map.of("title", MessageRegistry.parse(getTutorialTitle()))));
+        menu.add(getMessage("info.points", "count", String.valueOf(pointCount)));
+        menu.add(getMessage("info.motd-lines", "count", String.valueOf(motdCount)));
+        menu.add(getMessage("info.step-delay", "ticks", String.valueOf(stepDelay)));
+        menu.add(getMessage("info.cooldown", "seconds", String.valueOf(cooldown)));
+        menu.add(getMessage("info.freeze-players", "value", String.valueOf(freeze)));
+        menu.add(getMessage("info.block-commands", "value", String.valueOf(blockCmd)));
+        menu.addAll(runtimeLines);
         menu.add(getMessage("info.separator"));
         menu.add(getMessage("info.note"));
         menu.add(getMessage("info.usage"));
@@ -297,4 +523,3 @@ public class ConfigManager {
         return menu;
     }
 }
-
@@ -0,0 +1,115 @@
+package me.lubomirstankov.gotCraftTutorial.config;
+
+import me.lubomirstankov.gotCraftTutorial.storage.IoExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind persister for the plugin config.
+ * Edits only mark the config dirty; edits made within the debounce window are written
+ * together by one task on the plugin's I/O executor, which serialises the YAML off the
+ * main thread and replaces the file atomically through a temp file.
+ */
+public class ConfigPersister {
+    private static final long DEBOUNCE_MILLIS = 2000L;
+
+    private final Logger logger;
+    private final Path file;
+    private final Supplier<String> serializer;
+    private final Executor writer;
+    private final Executor debounced;
+    private CompletableFuture<Void> pendingWrite;
+
+    /**
+     * @param logger Logger for failed writes
+     * @param io Executor the writes run on
+     * @param file Target config file
+     * @param serializer Produces the YAML to write; must be safe to call off the main thread
+     */
+    public ConfigPersister(Logger logger, IoExecutor io, Path file, Supplier<String> serializer) {
+        this.logger = logger;
+        this.file = file;
+        this.serializer = serializer;
+        // One lane, so writes land in the order they were serialised
+        this.writer = io.serial();
+        this.debounced = CompletableFuture.delayedExecutor(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS, writer);
+    }
+
+    /**
+     * Schedules a write unless one is already pending.
+     * @return Future completed once the edit is on disk
+     */
+    public synchronized CompletableFuture<Void> markDirty() {
+        if (pendingWrite == null) {
+            pendingWrite = new CompletableFuture<>();
+            debounced.execute(this::write);
+        }
+        return pendingWrite;
+    }
+
+    /**
+     * Checks whether edits are waiting to be written.
+     */
+    public synchronized boolean isDirty() {
+        return pendingWrite != null;
+    }
+
+    /**
+     * Writes pending edits now instead of after the debounce window.
+     * Used before a reload and on disable.
+     * @return Future completed once the edits are on disk, or immediately if nothing is pending
+     */
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<Void> pending;
+        synchronized (this) {
+            pending = pendingWrite;
+        }
+        if (pending == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            writer.execute(this::write);
+        } catch (RejectedExecutionException e) {
+            pending.completeExceptionally(e);
+        }
+        return pending;
+    }
+
+    /**
+     * Writes the config if it is still dirty. A flush and the debounced task may both
+     * call this; whichever runs first writes, the other finds nothing to do.
+     */
+    private void write() {
+        CompletableFuture<Void> pending;
+        synchronized (this) {
+            pending = pendingWrite;
+            pendingWrite = null;
+        }
+        if (pending == null) {
+            return;
+        }
+
+        try {
+            String yaml = serializer.get();
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.createDirectories(file.getParent());
+            Files.writeString(temp, yaml, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            pending.complete(null);
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Could not save config to " + file, e);
+            pending.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package me.lubomirstankov.gotCraftTutorial.config;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.List;
+
+/**
+ * Immutable, typed view of the tutorial settings.
+ * Built once per load so hot paths read plain fields instead of walking the config tree.
+ */
+public final class ConfigSnapshot {
+    private final String tutorialTitle;
+    private final String subtitleFormat;
+    private final List<String> defaultMotdLines;
+    private final long stepDelay;
+    private final int cooldownSeconds;
+    private final long cooldownMillis;
+    private final String storageType;
+    private final String storageJdbcUrl;
+    private final long storageFlushTicks;
+    private final int preloadRadius;
+    private final boolean freezePlayers;
+    private final FreezeMode freezeMode;
+    private final boolean blockCommands;
+    private final List<String> allowedCommands;
+    private final List<String> completionCommands;
+    private final int commandsPerTick;
+    private final long commandBudgetNanos;
+    private final int maxConcurrentSessions;
+    private final int maxStartsPerTick;
+    private final boolean cameraEnabled;
+    private final int cameraTransitionTicks;
+    private final int maxCameraMovements;
+    private final boolean resumeEnabled;
+    private final long resumeWindowMillis;
+    private final boolean analyticsEnabled;
+    private final int analyticsBufferSize;
+    private final long analyticsMaxFileBytes;
+    private final int analyticsMaxFiles;
+    private final MessageRegistry messages;
+
+    private ConfigSnapshot(FileConfiguration config) {
+        this.tutorialTitle = config.getString("tutorial.title", "&6&lGotCraft Tutorial");
+        this.subtitleFormat = config.getString("tutorial.subtitle", "&9Step {current} of {total}");
+        this.defaultMotdLines = List.copyOf(config.getStringList("tutorial.motd"));
+        this.stepDelay = config.getLong("tutorial.step-delay-ticks", 100L);
+        this.cooldownSeconds = config.getInt("tutorial.cooldown-seconds", 300);
+        this.cooldownMillis = cooldownSeconds * 1000L;
+        // The old cooldown-storage: memory still selects the memory backend
+        this.storageType = config.getString("tutorial.storage.type",
+            "memory".equalsIgnoreCase(config.getString("tutorial.cooldown-storage")) ? "memory" : "sqlite");
+        this.storageJdbcUrl = config.getString("tutorial.storage.jdbc-url", "");
+        this.storageFlushTicks = config.getLong("tutorial.storage.flush-interval-ticks", 20L);
+        this.preloadRadius = config.getInt("tutorial.preload-radius", 1);
+        this.freezePlayers = config.getBoolean("tutorial.freeze-players", true);
+        this.freezeMode = FreezeMode.fromString(config.getString("tutorial.freeze-mode"));
+        this.blockCommands = config.getBoolean("tutorial.block-commands", true);
+        this.allowedCommands = config.isList("tutorial.allowed-commands")
+            ? List.copyOf(config.getStringList("tutorial.allowed-commands"))
+            : List.of("tutorial", "guide");
+        this.completionCommands = List.copyOf(config.getStringList("tutorial.completion-commands"));
+        this.commandsPerTick = config.getInt("tutorial.completion-command-budget.max-per-tick", 20);
+        this.commandBudgetNanos = (long) (config.getDouble("tutorial.completion-command-budget.max-millis", 2.0) * 1_000_000L);
+        this.maxConcurrentSessions = config.getInt("tutorial.admission.max-concurrent-sessions", 100);
+        this.maxStartsPerTick = config.getInt("tutorial.admission.max-starts-per-tick", 3);
+        this.cameraEnabled = config.getBoolean("tutorial.camera.enabled", true);
+        this.cameraTransitionTicks = config.getInt("tutorial.camera.transition-ticks", 40);
+        this.maxCameraMovements = config.getInt("tutorial.camera.max-concurrent", 50);
+        this.resumeEnabled = config.getBoolean("tutorial.resume.enabled", true);
+        this.resumeWindowMillis = config.getLong("tutorial.resume.window-seconds", 600L) * 1000L;
+        this.analyticsEnabled = config.getBoolean("tutorial.analytics.enabled", true);
+        this.analyticsBufferSize = config.getInt("tutorial.analytics.buffer-size", 8192);
+        this.analyticsMaxFileBytes = config.getLong("tutorial.analytics.max-file-kb", 1024L) * 1024L;
+        this.analyticsMaxFiles = config.getInt("tutorial.analytics.max-files", 8);
+        this.messages = MessageRegistry.load(config.getConfigurationSection("messages"));
+    }
+
+    /**
+     * Reads every tutorial setting from the given configuration.
+     * @param config Loaded plugin configuration
+     * @return New snapshot
+     */
+    public static ConfigSnapshot of(FileConfiguration config) {
+        return new ConfigSnapshot(config);
+    }
+
+    public String getTutorialTitle() {
+        return tutorialTitle;
+    }
+
+    public String getSubtitleFormat() {
+        return subtitleFormat;
+    }
+
+    public List<String> getDefaultMotdLines() {
+        return defaultMotdLines;
+    }
+
+    public long getStepDelay() {
+        return stepDelay;
+    }
+
+    public int getCooldown() {
+        return cooldownSeconds;
+    }
+
+    public long getCooldownMillis() {
+        return cooldownMillis;
+    }
+
+    /**
+     * Gets the chunk radius preloaded around the next step, or -1 to disable preloading.
+     */
+    public int getPreloadRadius() {
+        return preloadRadius;
+    }
+
+    /**
+     * Gets the storage backend type ("sqlite", "jdbc" or "memory"). Only read on startup.
+     */
+    public String getStorageType() {
+        return storageType;
+    }
+
+    /**
+     * Gets the JDBC URL of the "jdbc" storage backend. Only read on startup.
+     */
+    public String getStorageJdbcUrl() {
+        return storageJdbcUrl;
+    }
+
+    /**
+     * Gets the ticks between two writes of pending changes to storage. Only read on startup.
+     */
+    public long getStorageFlushTicks() {
+        return storageFlushTicks;
+    }
+
+    public boolean shouldFreezePlayers() {
+        return freezePlayers;
+    }
+
+    public FreezeMode getFreezeMode() {
+        return freezeMode;
+    }
+
+    public boolean shouldBlockCommands() {
+        return blockCommands;
+    }
+
+    /**
+     * Gets the commands players may still use while commands are blocked, as configured,
+     * without their aliases.
+     */
+    public List<String> getAllowedCommands() {
+        return allowedCommands;
+    }
+
+    public List<String> getCompletionCommands() {
+        return completionCommands;
+    }
+
+    /**
+     * Gets the most completion commands run per tick, or 0 for no limit.
+     */
+    public int getCommandsPerTick() {
+        return commandsPerTick;
+    }
+
+    /**
+     * Gets the time budget for completion commands per tick in nanoseconds, or 0 for no limit.
+     */
+    public long getCommandBudgetNanos() {
+        return commandBudgetNanos;
+    }
+
+    /**
+     * Gets the most sessions allowed to run at once, or 0 for no limit.
+     */
+    public int getMaxConcurrentSessions() {
+        return maxConcurrentSessions;
+    }
+
+    /**
+     * Gets the most sessions allowed to start on a single tick, or 0 for no limit.
+     */
+    public int getMaxStartsPerTick() {
+        return maxStartsPerTick;
+    }
+
+    /**
+     * Checks whether steps are joined by camera flights instead of plain teleports.
+     */
+    public boolean isCameraEnabled() {
+        return cameraEnabled;
+    }
+
+    /**
+     * Gets how many ticks a camera flight between two steps takes.
+     */
+    public int getCameraTransitionTicks() {
+        return cameraTransitionTicks;
+    }
+
+    /**
+     * Gets the most players in a camera flight at once, or 0 for no limit.
+     */
+    public int getMaxCameraMovements() {
+        return maxCameraMovements;
+    }
+
+    /**
+     * Checks whether sessions interrupted by a quit or restart are resumed instead of stopped.
+     */
+    public boolean isResumeEnabled() {
+        return resumeEnabled;
+    }
+
+    /**
+     * Gets how long an interrupted session can still be resumed, in milliseconds.
+     */
+    public long getResumeWindowMillis() {
+        return resumeWindowMillis;
+    }
+
+    /**
+     * Checks whether tutorial progress is recorded for funnel analytics.
+     */
+    public boolean isAnalyticsEnabled() {
+        return analyticsEnabled;
+    }
+
+    /**
+     * Gets how many analytics events are buffered in memory between writes.
+     */
+    public int getAnalyticsBufferSize() {
+        return analyticsBufferSize;
+    }
+
+    /**
+     * Gets the size in bytes after which the analytics log starts a new file.
+     */
+    public long getAnalyticsMaxFileBytes() {
+        return analyticsMaxFileBytes;
+    }
+
+    /**
+     * Gets how many analytics log files are kept.
+     */
+    public int getAnalyticsMaxFiles() {
+        return analyticsMaxFiles;
+    }
+
+    public MessageRegistry getMessages() {
+        return messages;
+    }
+
+    /**
+     * Gets a pre-rendered message by its key below {@code messages}.
+     * @param key Message key (e.g. "command-blocked" or "help.header")
+     * @return Cached component, empty if not configured
+     */
+    public Component getMessage(String key) {
+        return messages.get(key).asComponent();
+    }
+}
@@ -0,0 +1,42 @@
+package me.lubomirstankov.gotCraftTutorial.config;
+
+import java.util.Locale;
+
+/**
+ * How frozen players are kept in place during a tutorial.
+ */
+public enum FreezeMode {
+    /**
+     * Cancels every movement and teleports the player back, keeping head rotation.
+     * Smoothest for the player, but issues a teleport per movement packet.
+     */
+    TELEPORT,
+
+    /**
+     * Cancels only movement that crosses into another block. No teleports are issued.
+     */
+    CANCEL,
+
+    /**
+     * Zeroes movement speed and jump strength for the session and cancels block changes
+     * as a fallback. No teleports are issued and most packets need no handling at all.
+     */
+    ATTRIBUTE;
+
+    /**
+     * Parses a mode from config, falling back to {@link #TELEPORT}.
+     * @param value Mode name, case-insensitive
+     * @return Parsed mode
+     */
+    public static FreezeMode fromString(String value) {
+        if (value == null) {
+            return TELEPORT;
+        }
+
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return TELEPORT;
+        }
+    }
+}
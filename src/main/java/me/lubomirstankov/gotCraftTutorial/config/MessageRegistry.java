@@ -0,0 +1,74 @@
+package me.lubomirstankov.gotCraftTutorial.config;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds every configured message pre-parsed into a {@link MessageTemplate}.
+ * Built once per config load; lookups never parse or colorize text.
+ */
+public final class MessageRegistry {
+    private static final LegacyComponentSerializer SERIALIZER = LegacyComponentSerializer.builder()
+        .character('&')
+        .hexCharacter('#')
+        .hexColors()
+        .build();
+
+    private final Map<String, MessageTemplate> templates;
+
+    private MessageRegistry(Map<String, MessageTemplate> templates) {
+        this.templates = templates;
+    }
+
+    /**
+     * Compiles every string below the given messages section.
+     * @param section The {@code messages} section, may be null
+     * @return New registry keyed by relative path (e.g. "command-blocked" or "help.header")
+     */
+    public static MessageRegistry load(ConfigurationSection section) {
+        if (section == null) {
+            return new MessageRegistry(Map.of());
+        }
+
+        Map<String, MessageTemplate> templates = new HashMap<>();
+        for (String key : section.getKeys(true)) {
+            if (section.isString(key)) {
+                templates.put(key, MessageTemplate.compile(section.getString(key, "")));
+            }
+        }
+        return new MessageRegistry(Map.copyOf(templates));
+    }
+
+    /**
+     * Parses text using legacy (&amp;) and hex (&amp;#RRGGBB) color codes.
+     * Use for config text outside the messages section, such as titles and MOTD lines.
+     * @param raw Text with color codes
+     * @return Parsed component
+     */
+    public static Component parse(String raw) {
+        if (raw == null || raw.isEmpty()) {
+            return Component.empty();
+        }
+        return SERIALIZER.deserialize(raw);
+    }
+
+    /**
+     * Gets the compiled template for a message key.
+     * @param key Message key
+     * @return Template, or an empty template if the key is not configured
+     */
+    public MessageTemplate get(String key) {
+        return templates.getOrDefault(key, MessageTemplate.EMPTY);
+    }
+
+    /**
+     * Gets the number of compiled messages.
+     */
+    public int size() {
+        return templates.size();
+    }
+}
@@ -0,0 +1,235 @@
+package me.lubomirstankov.gotCraftTutorial.config;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message parsed once at load time and split around its {placeholder} tokens.
+ * Rendering only builds the placeholder values; all literal text is pre-parsed.
+ */
+public final class MessageTemplate {
+    static final MessageTemplate EMPTY = new MessageTemplate(Component.empty(), new Component[]{Component.empty()}, new String[0], new Style[0]);
+
+    private final Component full;
+    private final Component[] literals;
+    private final String[] placeholders;
+    private final Style[] placeholderStyles;
+
+    private MessageTemplate(Component full, Component[] literals, String[] placeholders, Style[] placeholderStyles) {
+        this.full = full;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.placeholderStyles = placeholderStyles;
+    }
+
+    /**
+     * Compiles a raw config message using legacy (&amp;) and hex (&amp;#RRGGBB) color codes.
+     * @param raw Message text from config
+     * @return Compiled template
+     */
+    public static MessageTemplate compile(String raw) {
+        if (raw == null || raw.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<Component> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        List<Style> styles = new ArrayList<>();
+
+        int segmentStart = 0;
+        String segmentCodes = "";
+        String activeCodes = "";
+        int i = 0;
+        while (i < raw.length()) {
+            char c = raw.charAt(i);
+
+            if (c == '&' && i + 1 < raw.length()) {
+                int codeLength = codeLength(raw, i);
+                if (codeLength > 0) {
+                    activeCodes = applyCode(activeCodes, raw.substring(i, i + codeLength));
+                    i += codeLength;
+                    continue;
+                }
+            }
+
+            if (c == '{') {
+                int end = raw.indexOf('}', i + 1);
+                if (end > i + 1 && isPlaceholderName(raw, i + 1, end)) {
+                    literals.add(literal(segmentCodes, raw.substring(segmentStart, i)));
+                    placeholders.add(raw.substring(i + 1, end));
+                    styles.add(styleOf(activeCodes));
+                    i = end + 1;
+                    segmentStart = i;
+                    segmentCodes = activeCodes;
+                    continue;
+                }
+            }
+            i++;
+        }
+        literals.add(literal(segmentCodes, raw.substring(segmentStart)));
+
+        return new MessageTemplate(
+            MessageRegistry.parse(raw),
+            literals.toArray(new Component[0]),
+            placeholders.toArray(new String[0]),
+            styles.toArray(new Style[0])
+        );
+    }
+
+    /**
+     * Gets the message with any placeholders left as written.
+     * The component is cached, so this never allocates.
+     */
+    public Component asComponent() {
+        return full;
+    }
+
+    /**
+     * Checks whether this template has any placeholders.
+     */
+    public boolean hasPlaceholders() {
+        return placeholders.length > 0;
+    }
+
+    /**
+     * Renders the template with a single placeholder value.
+     * @param placeholder Placeholder name without braces
+     * @param value Plain text value, styled like the text surrounding the placeholder
+     */
+    public Component render(String placeholder, String value) {
+        if (placeholders.length == 0) {
+            return full;
+        }
+
+        TextComponent.Builder builder = Component.text();
+        for (int i = 0; i < placeholders.length; i++) {
+            appendLiteral(builder, literals[i]);
+            if (placeholders[i].equals(placeholder)) {
+                builder.append(Component.text(value, placeholderStyles[i]));
+            } else {
+                builder.append(Component.text("{" + placeholders[i] + "}", placeholderStyles[i]));
+            }
+        }
+        appendLiteral(builder, literals[placeholders.length]);
+        return builder.build();
+    }
+
+    /**
+     * Renders the template with plain text placeholder values.
+     * @param values Placeholder values keyed by name without braces
+     */
+    public Component render(Map<String, String> values) {
+        if (placeholders.length == 0) {
+            return full;
+        }
+
+        TextComponent.Builder builder = Component.text();
+        for (int i = 0; i < placeholders.length; i++) {
+            appendLiteral(builder, literals[i]);
+            String value = values.get(placeholders[i]);
+            builder.append(Component.text(value != null ? value : "{" + placeholders[i] + "}", placeholderStyles[i]));
+        }
+        appendLiteral(builder, literals[placeholders.length]);
+        return builder.build();
+    }
+
+    /**
+     * Renders the template with pre-built component values.
+     * Values inherit the surrounding style wherever they do not set their own.
+     * @param values Placeholder values keyed by name without braces
+     */
+    public Component renderComponents(Map<String, ? extends ComponentLike> values) {
+        if (placeholders.length == 0) {
+            return full;
+        }
+
+        TextComponent.Builder builder = Component.text();
+        for (int i = 0; i < placeholders.length; i++) {
+            appendLiteral(builder, literals[i]);
+            ComponentLike value = values.get(placeholders[i]);
+            if (value != null) {
+                builder.append(Component.text().style(placeholderStyles[i]).append(value));
+            } else {
+                builder.append(Component.text("{" + placeholders[i] + "}", placeholderStyles[i]));
+            }
+        }
+        appendLiteral(builder, literals[placeholders.length]);
+        return builder.build();
+    }
+
+    private static Component literal(String activeCodes, String text) {
+        return text.isEmpty() ? Component.empty() : MessageRegistry.parse(activeCodes + text);
+    }
+
+    private static void appendLiteral(TextComponent.Builder builder, Component literal) {
+        if (literal != Component.empty()) {
+            builder.append(literal);
+        }
+    }
+
+    /**
+     * Gets the length of the color code starting at the given index, or 0 if there is none.
+     */
+    private static int codeLength(String raw, int index) {
+        char code = Character.toLowerCase(raw.charAt(index + 1));
+        if (code == '#' && index + 8 <= raw.length()) {
+            for (int i = index + 2; i < index + 8; i++) {
+                if (Character.digit(raw.charAt(i), 16) < 0) {
+                    return 0;
+                }
+            }
+            return 8;
+        }
+        return "0123456789abcdefklmnor".indexOf(code) >= 0 ? 2 : 0;
+    }
+
+    /**
+     * Applies a code to the active code string using legacy semantics:
+     * colors and resets clear formatting, formats stack on the current color.
+     */
+    private static String applyCode(String activeCodes, String code) {
+        char type = Character.toLowerCase(code.charAt(1));
+        if (type == 'r') {
+            return "";
+        }
+        if (type == '#' || Character.digit(type, 16) >= 0) {
+            return code;
+        }
+        return activeCodes + code;
+    }
+
+    private static boolean isPlaceholderName(String raw, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = raw.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves the style that text following the given codes would have.
+     */
+    private static Style styleOf(String activeCodes) {
+        if (activeCodes.isEmpty()) {
+            return Style.empty();
+        }
+        return trailingStyle(MessageRegistry.parse(activeCodes + "x"), Style.empty());
+    }
+
+    private static Style trailingStyle(Component component, Style inherited) {
+        Style merged = component.style().merge(inherited, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+        List<Component> children = component.children();
+        if (children.isEmpty()) {
+            return merged;
+        }
+        return trailingStyle(children.get(children.size() - 1), merged);
+    }
+}
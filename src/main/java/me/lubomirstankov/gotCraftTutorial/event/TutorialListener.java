@@ -0,0 +1,93 @@
+package me.lubomirstankov.gotCraftTutorial.event;
+
+import java.util.UUID;
+
+/**
+ * Direct observer of tutorial progress, registered with
+ * {@link me.lubomirstankov.gotCraftTutorial.service.TutorialManager#registerListener(TutorialListener)}.
+ * Unlike the Bukkit events it receives only primitives and the player UUID, is called
+ * without going through the event bus, and cannot cancel anything.
+ * Every method has an empty default, so implement only what you need.
+ *
+ * <p>Listeners registered without an executor are called on the thread driving the session
+ * (the main thread on Paper, the player's region thread on Folia) and must not block.
+ * Listeners registered with an executor are called on it and must not touch the Bukkit API.</p>
+ */
+public interface TutorialListener {
+
+    /**
+     * Called after a session has started.
+     * @param playerId Player UUID
+     * @param tutorialId Id of the tutorial started
+     * @param totalSteps Number of steps in the tutorial
+     */
+    default void onStart(UUID playerId, String tutorialId, int totalSteps) {
+    }
+
+    /**
+     * Called when a player moves to a new step.
+     * @param playerId Player UUID
+     * @param previousStep Previous step index (0-based)
+     * @param newStep New step index (0-based)
+     * @param totalSteps Number of steps in the tutorial
+     * @param elapsedMillis Time since the session started
+     */
+    default void onStepChange(UUID playerId, int previousStep, int newStep, int totalSteps, long elapsedMillis) {
+    }
+
+    /**
+     * Called when a session is stopped before its last step.
+     * @param playerId Player UUID
+     * @param currentStep Step index the player stopped on (0-based)
+     * @param totalSteps Number of steps in the tutorial
+     * @param elapsedMillis Time since the session started
+     */
+    default void onStop(UUID playerId, int currentStep, int totalSteps, long elapsedMillis) {
+    }
+
+    /**
+     * Called when a player completes every step.
+     * @param playerId Player UUID
+     * @param totalSteps Number of steps completed
+     * @param elapsedMillis Time since the session started
+     */
+    default void onComplete(UUID playerId, int totalSteps, long elapsedMillis) {
+    }
+
+    /**
+     * Called when a session is interrupted by a quit or a restart and saved so it can resume.
+     * Followed later by either {@link #onResume} or {@link #onDiscard} for the same player,
+     * unless the session resumes on another server of the network.
+     * @param playerId Player UUID
+     * @param currentStep Step index the player was on (0-based)
+     * @param totalSteps Number of steps in the tutorial
+     * @param elapsedMillis Time since the session started
+     */
+    default void onSuspend(UUID playerId, int currentStep, int totalSteps, long elapsedMillis) {
+    }
+
+    /**
+     * Called when an interrupted session resumes, possibly after a restart or on another
+     * server of the network, before its current step is shown again.
+     * @param playerId Player UUID
+     * @param tutorialId Id of the tutorial resumed
+     * @param currentStep Step index the session resumes at (0-based)
+     * @param totalSteps Number of steps in the tutorial
+     * @param elapsedMillis Time spent in the session before it was interrupted
+     */
+    default void onResume(UUID playerId, String tutorialId, int currentStep, int totalSteps, long elapsedMillis) {
+    }
+
+    /**
+     * Called when an interrupted session is given up: its resume window passed, its tutorial
+     * changed, resuming was disabled, or the player left the resume queue. The player left the
+     * tutorial at the saved step.
+     * Called on the global region thread; the player may be offline.
+     * @param playerId Player UUID
+     * @param tutorialId Id of the tutorial the session was running
+     * @param savedStep Step index the player was on (0-based)
+     * @param elapsedMillis Time spent in the session before it was interrupted
+     */
+    default void onDiscard(UUID playerId, String tutorialId, int savedStep, long elapsedMillis) {
+    }
+}
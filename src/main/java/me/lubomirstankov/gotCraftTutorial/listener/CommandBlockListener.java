@@ -1,45 +1,54 @@
 package me.lubomirstankov.gotCraftTutorial.listener;
 
 import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigSnapshot;
+import me.lubomirstankov.gotCraftTutorial.metrics.TutorialMetrics;
 import me.lubomirstankov.gotCraftTutorial.service.TutorialManager;
-import net.kyori.adventure.text.Component;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 
 /**
- * Blocks commands during tutorial sessions.
+ * Blocks commands during tutorial sessions, except the configured allowed ones.
  */
 public class CommandBlockListener implements Listener {
     private final TutorialManager tutorialManager;
     private final ConfigManager configManager;
+    private final TutorialMetrics metrics;
 
     public CommandBlockListener(TutorialManager tutorialManager, ConfigManager configManager) {
         this.tutorialManager = tutorialManager;
         this.configManager = configManager;
+        this.metrics = tutorialManager.getMetrics();
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
-        if (!configManager.shouldBlockCommands()) {
-            return;
+        long startNanos = System.nanoTime();
+        boolean blocked = false;
+        try {
+            ConfigSnapshot settings = configManager.getSnapshot();
+            if (!settings.shouldBlockCommands()) {
+                return;
+            }
+
+            if (!tutorialManager.hasActiveSession(event.getPlayer())) {
+                return;
+            }
+
+            // Allow the configured commands, looked up without copying the message
+            if (tutorialManager.isCommandAllowed(event.getMessage())) {
+                return;
+            }
+
+            // Block all other commands
+            event.setCancelled(true);
+            event.getPlayer().sendMessage(settings.getMessage("command-blocked"));
+            blocked = true;
+        } finally {
+            metrics.recordCommandListener(startNanos, blocked);
         }
-
-        if (!tutorialManager.hasActiveSession(event.getPlayer())) {
-            return;
-        }
-
-        String command = event.getMessage().toLowerCase();
-
-        // Allow tutorial commands
-        if (command.startsWith("/tutorial") || command.startsWith("/guide")) {
-            return;
-        }
-
-        // Block all other commands
-        event.setCancelled(true);
-        event.getPlayer().sendMessage(Component.text(configManager.getMessage("command-blocked")));
     }
 }
 
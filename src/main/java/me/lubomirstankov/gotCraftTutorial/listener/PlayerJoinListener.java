@@ -0,0 +1,23 @@
+package me.lubomirstankov.gotCraftTutorial.listener;
+
+import me.lubomirstankov.gotCraftTutorial.service.TutorialManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+/**
+ * Reads the player's stored tutorial progress, then resumes a tutorial they were in
+ * when they quit or the server restarted.
+ */
+public class PlayerJoinListener implements Listener {
+    private final TutorialManager tutorialManager;
+
+    public PlayerJoinListener(TutorialManager tutorialManager) {
+        this.tutorialManager = tutorialManager;
+    }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        tutorialManager.loadPlayer(event.getPlayer());
+    }
+}
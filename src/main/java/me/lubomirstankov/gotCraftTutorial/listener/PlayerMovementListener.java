@@ -1,7 +1,11 @@
 package me.lubomirstankov.gotCraftTutorial.listener;
 
 import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigSnapshot;
+import me.lubomirstankov.gotCraftTutorial.config.FreezeMode;
+import me.lubomirstankov.gotCraftTutorial.metrics.TutorialMetrics;
 import me.lubomirstankov.gotCraftTutorial.service.TutorialManager;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
 import org.bukkit.Location;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -13,45 +17,68 @@ import org.bukkit.event.player.PlayerMoveEvent;
 public class PlayerMovementListener implements Listener {
     private final TutorialManager tutorialManager;
     private final ConfigManager configManager;
+    private final TutorialMetrics metrics;
 
     public PlayerMovementListener(TutorialManager tutorialManager, ConfigManager configManager) {
         this.tutorialManager = tutorialManager;
         this.configManager = configManager;
+        this.metrics = tutorialManager.getMetrics();
     }
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        // Check if freeze is enabled in config
-        if (!configManager.shouldFreezePlayers()) {
-            return;
-        }
+        long startNanos = System.nanoTime();
+        try {
+            // Check if freeze is enabled in config
+            ConfigSnapshot settings = configManager.getSnapshot();
+            if (!settings.shouldFreezePlayers()) {
+                return;
+            }
+
+            // Head rotation alone never needs handling
+            if (!event.hasChangedPosition()) {
+                return;
+            }
 
-        // Check if player has active tutorial session
-        if (!tutorialManager.hasActiveSession(event.getPlayer())) {
-            return;
+            // Check if player has active tutorial session
+            if (!tutorialManager.hasActiveSession(event.getPlayer())) {
+                return;
+            }
+
+            if (settings.getFreezeMode() == FreezeMode.TELEPORT) {
+                freezeWithTeleport(event);
+                metrics.recordFreezeCorrection();
+            } else if (event.hasChangedBlock()) {
+                // CANCEL and ATTRIBUTE: let sub-block jitter through, stop anything that leaves the block
+                event.setCancelled(true);
+                metrics.recordFreezeCorrection();
+            }
+        } finally {
+            metrics.recordMoveListener(startNanos);
         }
+    }
 
-        // Only cancel if the player actually moved (not just head rotation)
+    /**
+     * Cancels the movement and teleports the player back, keeping their view direction.
+     */
+    private void freezeWithTeleport(PlayerMoveEvent event) {
         Location from = event.getFrom();
         Location to = event.getTo();
 
-        if (to == null) {
-            return;
-        }
-
-        // Check if X, Y, or Z coordinates changed (actual movement)
-        if (from.getX() != to.getX() || from.getY() != to.getY() || from.getZ() != to.getZ()) {
-            // Create new location that keeps player in place but allows head rotation
-            Location frozenLocation = from.clone();
-            frozenLocation.setYaw(to.getYaw());
-            frozenLocation.setPitch(to.getPitch());
+        // Create new location that keeps player in place but allows head rotation
+        Location frozenLocation = from.clone();
+        frozenLocation.setYaw(to.getYaw());
+        frozenLocation.setPitch(to.getPitch());
 
-            // Cancel the movement event
-            event.setCancelled(true);
+        // Cancel the movement event
+        event.setCancelled(true);
 
-            // Teleport player back to frozen position with updated view direction
+        // Teleport player back to frozen position with updated view direction;
+        // Folia only allows async teleports
+        if (Schedulers.isFolia()) {
+            event.getPlayer().teleportAsync(frozenLocation);
+        } else {
             event.getPlayer().teleport(frozenLocation);
         }
     }
 }
-
@@ -6,7 +6,8 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
- * Handles cleanup when players quit during tutorial.
+ * Handles cleanup when players quit during tutorial or while queued for one.
+ * A running tutorial is suspended, so it resumes when the player comes back.
  */
 public class PlayerQuitListener implements Listener {
     private final TutorialManager tutorialManager;
@@ -18,8 +19,11 @@ public class PlayerQuitListener implements Listener {
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
         if (tutorialManager.hasActiveSession(event.getPlayer())) {
-            tutorialManager.stopTutorial(event.getPlayer());
+            tutorialManager.suspendTutorial(event.getPlayer());
+        } else {
+            tutorialManager.leaveQueue(event.getPlayer());
         }
+        tutorialManager.unloadPlayer(event.getPlayer());
     }
 }
 
@@ -0,0 +1,287 @@
+package me.lubomirstankov.gotCraftTutorial.metrics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Rotating binary log of analytics events.
+ * Every file starts with a magic number and a format version, followed by records:
+ * a tutorial definition (type 0, int code, UTF id) the first time a tutorial appears in
+ * the file, or an event (type byte, epoch millis, UUID most/least significant bits,
+ * int tutorial code, int step). Codes are only meaningful within their file, so every
+ * file can be read on its own. Once a file exceeds the size limit a new one is started,
+ * and the oldest files beyond the file limit are deleted. Version 2 added the suspend and
+ * resume events of interrupted sessions; version 1 files are still read.
+ *
+ * <p>Writing is confined to one thread at a time; {@link #analyze} may run concurrently
+ * and stops at the last complete record.</p>
+ */
+public class AnalyticsLog {
+    public static final byte DEFINE = 0;
+    public static final byte START = 1;
+    public static final byte STEP = 2;
+    public static final byte STOP = 3;
+    public static final byte COMPLETE = 4;
+    public static final byte SUSPEND = 5;
+    public static final byte RESUME = 6;
+
+    private static final int MAGIC = 0x47435441;
+    private static final short FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 6;
+    private static final int EVENT_SIZE = 33;
+    private static final String PREFIX = "events-";
+    private static final String SUFFIX = ".bin";
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final IntFunction<String> tutorialNames;
+    private final Logger logger;
+
+    // Writer state
+    private final BitSet defined;
+    private DataOutputStream out;
+    private long fileBytes;
+
+    /**
+     * @param directory Folder holding the log files
+     * @param maxFileBytes Size after which a new file is started
+     * @param maxFiles Most files kept, including the one being written
+     * @param tutorialNames Resolves a tutorial code to its id
+     * @param logger Logger for write failures
+     */
+    public AnalyticsLog(Path directory, long maxFileBytes, int maxFiles, IntFunction<String> tutorialNames, Logger logger) {
+        this.directory = directory;
+        this.maxFileBytes = Math.max(4096L, maxFileBytes);
+        this.maxFiles = Math.max(1, maxFiles);
+        this.tutorialNames = tutorialNames;
+        this.logger = logger;
+        this.defined = new BitSet();
+    }
+
+    /**
+     * Appends one event, rotating first if the current file is full.
+     */
+    public void append(byte type, long time, long playerMost, long playerLeast, int tutorial, int step) throws IOException {
+        if (out == null || fileBytes >= maxFileBytes) {
+            rotate(time);
+        }
+
+        if (!defined.get(tutorial)) {
+            String name = tutorialNames.apply(tutorial);
+            int before = out.size();
+            out.writeByte(DEFINE);
+            out.writeInt(tutorial);
+            out.writeUTF(name != null ? name : "");
+            fileBytes += out.size() - before;
+            defined.set(tutorial);
+        }
+
+        out.writeByte(type);
+        out.writeLong(time);
+        out.writeLong(playerMost);
+        out.writeLong(playerLeast);
+        out.writeInt(tutorial);
+        out.writeInt(step);
+        fileBytes += EVENT_SIZE;
+    }
+
+    /**
+     * Pushes buffered records to the file.
+     */
+    public void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Flushes and closes the current file. The next append starts a new one.
+     */
+    public void close() {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to close analytics log", e);
+        }
+        out = null;
+    }
+
+    private void rotate(long time) throws IOException {
+        close();
+        Files.createDirectories(directory);
+
+        Path file = directory.resolve(PREFIX + time + SUFFIX);
+        for (int suffix = 1; Files.exists(file); suffix++) {
+            file = directory.resolve(PREFIX + time + "-" + suffix + SUFFIX);
+        }
+
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        fileBytes = HEADER_SIZE;
+        defined.clear();
+
+        List<Path> files = listFiles();
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    /**
+     * Lists the log files, oldest first.
+     */
+    public List<Path> listFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (Files.notExists(directory)) {
+            return files;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        // Names hold the creation time, and epoch millis keep the same width until 2286
+        files.sort(null);
+        return files;
+    }
+
+    /**
+     * Streams every log file once and computes the funnel of one tutorial.
+     * Only sessions in progress at the current read position are held in memory.
+     * @param tutorialId Tutorial to report on
+     */
+    public FunnelReport analyze(String tutorialId) throws IOException {
+        FunnelReport report = new FunnelReport(tutorialId);
+        Map<UUID, long[]> open = new HashMap<>();
+
+        for (Path file : listFiles()) {
+            try (InputStream stream = Files.newInputStream(file);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+                report.addFile(Files.size(file));
+                if (in.readInt() != MAGIC || !isSupported(in.readShort())) {
+                    logger.warning("Skipping unrecognised analytics log " + file.getFileName());
+                    continue;
+                }
+                readFile(in, tutorialId, report, open);
+            } catch (EOFException | NoSuchFileException e) {
+                // Cut off mid-record by the writer, or rotated away while listing
+            }
+        }
+        return report;
+    }
+
+    private static boolean isSupported(short version) {
+        return version >= 1 && version <= FORMAT_VERSION;
+    }
+
+    private void readFile(DataInputStream in, String tutorialId, FunnelReport report, Map<UUID, long[]> open) throws IOException {
+        BitSet matching = new BitSet();
+        while (true) {
+            byte type = in.readByte();
+            if (type == DEFINE) {
+                int code = in.readInt();
+                matching.set(code, tutorialId.equals(in.readUTF()));
+                continue;
+            }
+
+            long time = in.readLong();
+            UUID playerId = new UUID(in.readLong(), in.readLong());
+            int code = in.readInt();
+            int step = in.readInt();
+            report.countEvent();
+            if (!matching.get(code)) {
+                continue;
+            }
+
+            // Open session state: current step (-1 before the first), when it was entered
+            // (-1 while suspended) and the time spent on it before a suspend
+            long[] session = open.get(playerId);
+            switch (type) {
+                case START -> {
+                    report.recordStart();
+                    open.put(playerId, new long[]{-1L, time, 0L});
+                }
+                case STEP -> {
+                    if (session == null) {
+                        // Started before the oldest retained file
+                        session = new long[]{-1L, time, 0L};
+                        open.put(playerId, session);
+                    } else if (session[0] == step) {
+                        // The resumed step shown again
+                        continue;
+                    } else if (session[0] >= 0) {
+                        report.recordDwell((int) session[0], dwell(session, time));
+                    }
+                    report.recordEnter(step);
+                    session[0] = step;
+                    session[1] = time;
+                    session[2] = 0L;
+                }
+                case SUSPEND -> {
+                    if (session != null && session[1] >= 0) {
+                        session[2] += time - session[1];
+                        session[1] = -1L;
+                    }
+                }
+                case RESUME -> {
+                    if (session == null) {
+                        // Started before the oldest retained file; its step was entered there
+                        open.put(playerId, new long[]{step, time, 0L});
+                    } else {
+                        session[0] = step;
+                        session[1] = time;
+                    }
+                }
+                case STOP -> {
+                    if (session != null && session[0] >= 0) {
+                        report.recordDwell((int) session[0], dwell(session, time));
+                    }
+                    report.recordAbandon(step);
+                    open.remove(playerId);
+                }
+                case COMPLETE -> {
+                    if (session != null && session[0] >= 0) {
+                        report.recordDwell((int) session[0], dwell(session, time));
+                    }
+                    report.recordComplete();
+                    open.remove(playerId);
+                }
+                default -> {
+                    logger.warning("Unknown analytics record type " + type + ", skipping the rest of the file");
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the time spent on a session's current step, leaving out time it was suspended.
+     */
+    private static long dwell(long[] session, long time) {
+        return session[2] + (session[1] >= 0 ? time - session[1] : 0L);
+    }
+}
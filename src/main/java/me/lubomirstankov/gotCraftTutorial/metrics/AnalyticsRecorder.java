@@ -0,0 +1,245 @@
+package me.lubomirstankov.gotCraftTutorial.metrics;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.lubomirstankov.gotCraftTutorial.event.TutorialListener;
+import me.lubomirstankov.gotCraftTutorial.storage.IoExecutor;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records tutorial progress for funnel analytics.
+ * Registered as a direct {@link TutorialListener}, it only copies each event into a
+ * lock-free ring buffer on the thread driving the session. A background task drains the
+ * ring into the rotating {@link AnalyticsLog} once a second on a serial lane of the
+ * plugin's I/O executor, which is also where reports are computed.
+ */
+public class AnalyticsRecorder implements TutorialListener {
+    private static final long DRAIN_PERIOD_TICKS = 20L;
+
+    private final Plugin plugin;
+    private final Logger logger;
+    private final IoExecutor io;
+    private final Executor writer;
+    private final EventRingBuffer ring;
+    private final AnalyticsLog log;
+    private final Map<String, Integer> tutorialCodes;
+    private final Map<Integer, String> tutorialNames;
+    private final Map<UUID, Integer> sessionTutorials;
+    private final AtomicInteger nextCode;
+    private ScheduledTask drainTask;
+    private long written;
+
+    /**
+     * @param plugin Owning plugin
+     * @param io Executor the log is written and read on
+     * @param directory Folder holding the log files
+     * @param bufferSize Events held in memory between drains
+     * @param maxFileBytes Size after which the log rotates
+     * @param maxFiles Most log files kept
+     */
+    public AnalyticsRecorder(Plugin plugin, IoExecutor io, Path directory, int bufferSize, long maxFileBytes, int maxFiles) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.io = io;
+        this.writer = io.serial();
+        this.ring = new EventRingBuffer(bufferSize);
+        this.tutorialNames = new ConcurrentHashMap<>();
+        this.log = new AnalyticsLog(directory, maxFileBytes, maxFiles, tutorialNames::get, logger);
+        this.tutorialCodes = new ConcurrentHashMap<>();
+        this.sessionTutorials = new ConcurrentHashMap<>();
+        this.nextCode = new AtomicInteger();
+    }
+
+    /**
+     * Starts the periodic drain.
+     */
+    public synchronized void start() {
+        if (drainTask == null) {
+            drainTask = Schedulers.runAsyncTimer(plugin, this::scheduleDrain, DRAIN_PERIOD_TICKS, DRAIN_PERIOD_TICKS);
+        }
+    }
+
+    @Override
+    public void onStart(UUID playerId, String tutorialId, int totalSteps) {
+        int code = codeOf(tutorialId);
+        sessionTutorials.put(playerId, code);
+        record(AnalyticsLog.START, playerId, code, 0);
+    }
+
+    @Override
+    public void onStepChange(UUID playerId, int previousStep, int newStep, int totalSteps, long elapsedMillis) {
+        Integer code = sessionTutorials.get(playerId);
+        if (code != null) {
+            record(AnalyticsLog.STEP, playerId, code, newStep);
+        }
+    }
+
+    @Override
+    public void onStop(UUID playerId, int currentStep, int totalSteps, long elapsedMillis) {
+        Integer code = sessionTutorials.remove(playerId);
+        if (code != null) {
+            record(AnalyticsLog.STOP, playerId, code, currentStep);
+        }
+    }
+
+    @Override
+    public void onComplete(UUID playerId, int totalSteps, long elapsedMillis) {
+        Integer code = sessionTutorials.remove(playerId);
+        if (code != null) {
+            record(AnalyticsLog.COMPLETE, playerId, code, totalSteps - 1);
+        }
+    }
+
+    @Override
+    public void onSuspend(UUID playerId, int currentStep, int totalSteps, long elapsedMillis) {
+        Integer code = sessionTutorials.remove(playerId);
+        if (code != null) {
+            record(AnalyticsLog.SUSPEND, playerId, code, currentStep);
+        }
+    }
+
+    @Override
+    public void onResume(UUID playerId, String tutorialId, int currentStep, int totalSteps, long elapsedMillis) {
+        // Rebinds the session, which may have been suspended before a restart or on another server
+        int code = codeOf(tutorialId);
+        sessionTutorials.put(playerId, code);
+        record(AnalyticsLog.RESUME, playerId, code, currentStep);
+    }
+
+    @Override
+    public void onDiscard(UUID playerId, String tutorialId, int savedStep, long elapsedMillis) {
+        record(AnalyticsLog.STOP, playerId, codeOf(tutorialId), savedStep);
+    }
+
+    private int codeOf(String tutorialId) {
+        return tutorialCodes.computeIfAbsent(tutorialId, id -> {
+            int assigned = nextCode.getAndIncrement();
+            tutorialNames.put(assigned, id);
+            return assigned;
+        });
+    }
+
+    private void record(byte type, UUID playerId, int tutorial, int step) {
+        ring.offer(type, System.currentTimeMillis(), playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), tutorial, step);
+    }
+
+    /**
+     * Writes everything recorded so far to the log.
+     * @return Future completed once the events are in the file
+     */
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(this::drain, writer);
+    }
+
+    /**
+     * Flushes the buffer and computes the funnel of a tutorial by streaming over the log.
+     * @return Future completed on the I/O executor with the report
+     */
+    public CompletableFuture<FunnelReport> analyze(String tutorialId) {
+        return flush().thenCompose(ignored -> io.supply(() -> log.analyze(tutorialId)));
+    }
+
+    /**
+     * Stops the periodic drain, writes the remaining events and closes the log.
+     * Blocks until the events are on disk or the writer gives up.
+     */
+    public void close() {
+        synchronized (this) {
+            if (drainTask != null) {
+                drainTask.cancel();
+                drainTask = null;
+            }
+        }
+
+        try {
+            CompletableFuture.runAsync(() -> {
+                drain();
+                log.close();
+            }, writer).get(5, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            logger.warning("Timed out writing analytics events");
+        } catch (RejectedExecutionException | ExecutionException e) {
+            logger.log(Level.WARNING, "Failed to write analytics events", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the number of events waiting in memory.
+     */
+    public int getBuffered() {
+        return ring.size();
+    }
+
+    public int getBufferCapacity() {
+        return ring.capacity();
+    }
+
+    /**
+     * Gets how many events were dropped because the buffer was full.
+     */
+    public long getDropped() {
+        return ring.getDropped();
+    }
+
+    /**
+     * Gets how many events were written to the log since startup.
+     */
+    public synchronized long getWritten() {
+        return written;
+    }
+
+    private void scheduleDrain() {
+        if (ring.size() > 0) {
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Moves the buffered events into the log. Runs on the writer lane only.
+     */
+    private void drain() {
+        int drained;
+        try {
+            drained = ring.drain(this::append);
+            log.flush();
+        } catch (UncheckedIOException e) {
+            logger.log(Level.WARNING, "Failed to write analytics log", e.getCause());
+            log.close();
+            return;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write analytics log", e);
+            log.close();
+            return;
+        }
+
+        synchronized (this) {
+            written += drained;
+        }
+    }
+
+    private void append(byte type, long time, long playerMost, long playerLeast, int tutorial, int step) {
+        try {
+            log.append(type, time, playerMost, playerLeast, tutorial, step);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package me.lubomirstankov.gotCraftTutorial.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free ring of analytics events for many producers and one consumer.
+ * Events are stored field by field in preallocated primitive arrays, so recording one
+ * allocates nothing. Producers claim a slot with a single CAS and publish it through the
+ * slot's sequence number; when the ring is full the event is dropped and counted instead
+ * of blocking the tick.
+ */
+public final class EventRingBuffer {
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail;
+    private final AtomicLong dropped;
+    private final byte[] types;
+    private final long[] times;
+    private final long[] mostBits;
+    private final long[] leastBits;
+    private final int[] tutorials;
+    private final int[] steps;
+    private volatile long head;
+
+    /**
+     * @param capacity Requested number of slots, rounded up to a power of two
+     */
+    public EventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.tail = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.types = new byte[size];
+        this.times = new long[size];
+        this.mostBits = new long[size];
+        this.leastBits = new long[size];
+        this.tutorials = new int[size];
+        this.steps = new int[size];
+    }
+
+    /**
+     * Records an event. Safe to call from any thread.
+     * @return false if the ring was full and the event was dropped
+     */
+    public boolean offer(byte type, long time, long playerMost, long playerLeast, int tutorial, int step) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long available = sequences.getAcquire(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (available < 0) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        }
+
+        types[index] = type;
+        times[index] = time;
+        mostBits[index] = playerMost;
+        leastBits[index] = playerLeast;
+        tutorials[index] = tutorial;
+        steps[index] = step;
+        sequences.setRelease(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Hands every published event to a sink, oldest first. Only one thread may drain at a time.
+     * Each slot is released before its event is handed over, so a failing sink loses only that event.
+     * @return Number of events drained
+     */
+    public int drain(Sink sink) {
+        int drained = 0;
+        while (true) {
+            long position = head;
+            int index = (int) position & mask;
+            if (sequences.getAcquire(index) != position + 1) {
+                return drained;
+            }
+
+            byte type = types[index];
+            long time = times[index];
+            long playerMost = mostBits[index];
+            long playerLeast = leastBits[index];
+            int tutorial = tutorials[index];
+            int step = steps[index];
+            sequences.setRelease(index, position + mask + 1);
+            head = position + 1;
+            drained++;
+            sink.accept(type, time, playerMost, playerLeast, tutorial, step);
+        }
+    }
+
+    /**
+     * Gets the number of slots.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Gets the number of events waiting to be drained.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Gets how many events were dropped because the ring was full.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Receives drained events.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        void accept(byte type, long time, long playerMost, long playerLeast, int tutorial, int step);
+    }
+}
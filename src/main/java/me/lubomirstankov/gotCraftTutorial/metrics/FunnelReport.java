@@ -0,0 +1,131 @@
+package me.lubomirstankov.gotCraftTutorial.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Per-step funnel of one tutorial, computed by {@link AnalyticsLog#analyze(String)}.
+ * Dwell time is the time between entering a step and leaving it, whether to the next step,
+ * by stopping or by completing. The abandon rate of a step is the share of players who
+ * entered it and stopped there.
+ */
+public final class FunnelReport {
+    private final String tutorialId;
+    private long starts;
+    private long completions;
+    private long events;
+    private int files;
+    private long bytes;
+    private long[] entered = new long[0];
+    private long[] abandoned = new long[0];
+    private long[] dwellMillis = new long[0];
+    private long[] dwellCount = new long[0];
+
+    FunnelReport(String tutorialId) {
+        this.tutorialId = tutorialId;
+    }
+
+    void addFile(long size) {
+        files++;
+        bytes += size;
+    }
+
+    void countEvent() {
+        events++;
+    }
+
+    void recordStart() {
+        starts++;
+    }
+
+    void recordComplete() {
+        completions++;
+    }
+
+    void recordEnter(int step) {
+        ensureSteps(step + 1);
+        entered[step]++;
+    }
+
+    void recordAbandon(int step) {
+        ensureSteps(step + 1);
+        abandoned[step]++;
+    }
+
+    void recordDwell(int step, long millis) {
+        ensureSteps(step + 1);
+        dwellMillis[step] += Math.max(0L, millis);
+        dwellCount[step]++;
+    }
+
+    private void ensureSteps(int steps) {
+        if (steps > entered.length) {
+            entered = Arrays.copyOf(entered, steps);
+            abandoned = Arrays.copyOf(abandoned, steps);
+            dwellMillis = Arrays.copyOf(dwellMillis, steps);
+            dwellCount = Arrays.copyOf(dwellCount, steps);
+        }
+    }
+
+    public String getTutorialId() {
+        return tutorialId;
+    }
+
+    public long getStarts() {
+        return starts;
+    }
+
+    public long getCompletions() {
+        return completions;
+    }
+
+    /**
+     * Gets the share of started sessions that completed, in percent.
+     */
+    public double getCompletionRate() {
+        return starts == 0 ? 0.0 : completions * 100.0 / starts;
+    }
+
+    /**
+     * Gets the number of steps seen in the log.
+     */
+    public int getStepCount() {
+        return entered.length;
+    }
+
+    public long getEntered(int step) {
+        return entered[step];
+    }
+
+    public long getAbandoned(int step) {
+        return abandoned[step];
+    }
+
+    /**
+     * Gets the share of players entering a step who stopped there, in percent.
+     */
+    public double getAbandonRate(int step) {
+        return entered[step] == 0 ? 0.0 : abandoned[step] * 100.0 / entered[step];
+    }
+
+    /**
+     * Gets the average time spent on a step, in seconds.
+     */
+    public double getAverageDwellSeconds(int step) {
+        return dwellCount[step] == 0 ? 0.0 : dwellMillis[step] / 1000.0 / dwellCount[step];
+    }
+
+    /**
+     * Gets the number of records read across every tutorial.
+     */
+    public long getEvents() {
+        return events;
+    }
+
+    public int getFiles() {
+        return files;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,283 @@
+package me.lubomirstankov.gotCraftTutorial.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Counters and latency histograms for the tutorial lifecycle.
+ * Every recording method is allocation-free and thread-safe, so metrics stay on in production.
+ */
+public final class TutorialMetrics implements TutorialMetricsMBean {
+    private static final String OBJECT_NAME = "me.lubomirstankov.gotCraftTutorial:type=TutorialMetrics";
+    private static final int TRACKED_STEPS = 128;
+
+    private final IntSupplier activeSessions;
+    private final LongAdder starts = new LongAdder();
+    private final LongAdder completions = new LongAdder();
+    private final LongAdder abandons = new LongAdder();
+    private final LongAdder queuedStarts = new LongAdder();
+    private final LongAdder freezeCorrections = new LongAdder();
+    private final LongAdder commandsBlocked = new LongAdder();
+    private final AtomicLongArray abandonsPerStep = new AtomicLongArray(TRACKED_STEPS);
+
+    private final LatencyHistogram startTime = new LatencyHistogram();
+    private final LatencyHistogram stopTime = new LatencyHistogram();
+    private final LatencyHistogram completeTime = new LatencyHistogram();
+    private final LatencyHistogram stepTime = new LatencyHistogram();
+    private final LatencyHistogram teleportTime = new LatencyHistogram();
+    private final LatencyHistogram eventDispatchTime = new LatencyHistogram();
+    private final LatencyHistogram moveListenerTime = new LatencyHistogram();
+    private final LatencyHistogram commandListenerTime = new LatencyHistogram();
+
+    private ObjectName registeredName;
+
+    /**
+     * @param activeSessions Current number of running sessions
+     */
+    public TutorialMetrics(IntSupplier activeSessions) {
+        this.activeSessions = activeSessions;
+    }
+
+    /**
+     * Publishes these metrics as a platform MBean. Failures are logged, not thrown.
+     */
+    public void register(Logger logger) {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            // A previous instance survives a plugin reload without a clean disable
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            registeredName = name;
+        } catch (JMException e) {
+            logger.log(Level.WARNING, "Could not register tutorial metrics MBean", e);
+        }
+    }
+
+    /**
+     * Removes the MBean published by {@link #register(Logger)}.
+     */
+    public void unregister() {
+        if (registeredName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+        } catch (JMException ignored) {
+            // Already gone
+        }
+        registeredName = null;
+    }
+
+    public void recordStart(long startNanos) {
+        starts.increment();
+        startTime.recordSince(startNanos);
+    }
+
+    public void recordQueued() {
+        queuedStarts.increment();
+    }
+
+    /**
+     * Records a session stopped before its last step.
+     * @param stepIndex Step the player was on
+     */
+    public void recordAbandon(int stepIndex, long startNanos) {
+        abandons.increment();
+        abandonsPerStep.incrementAndGet(Math.max(0, Math.min(stepIndex, TRACKED_STEPS - 1)));
+        stopTime.recordSince(startNanos);
+    }
+
+    public void recordCompletion(long startNanos) {
+        completions.increment();
+        completeTime.recordSince(startNanos);
+    }
+
+    public void recordStep(long startNanos) {
+        stepTime.recordSince(startNanos);
+    }
+
+    public void recordTeleport(long nanos) {
+        teleportTime.record(nanos);
+    }
+
+    public void recordEventDispatch(long startNanos) {
+        eventDispatchTime.recordSince(startNanos);
+    }
+
+    public void recordMoveListener(long startNanos) {
+        moveListenerTime.recordSince(startNanos);
+    }
+
+    public void recordFreezeCorrection() {
+        freezeCorrections.increment();
+    }
+
+    public void recordCommandListener(long startNanos, boolean blocked) {
+        if (blocked) {
+            commandsBlocked.increment();
+        }
+        commandListenerTime.recordSince(startNanos);
+    }
+
+    public LatencyHistogram getStartTime() {
+        return startTime;
+    }
+
+    public LatencyHistogram getStopTime() {
+        return stopTime;
+    }
+
+    public LatencyHistogram getCompleteTime() {
+        return completeTime;
+    }
+
+    public LatencyHistogram getStepTime() {
+        return stepTime;
+    }
+
+    public LatencyHistogram getTeleportTime() {
+        return teleportTime;
+    }
+
+    public LatencyHistogram getEventDispatchTime() {
+        return eventDispatchTime;
+    }
+
+    public LatencyHistogram getMoveListenerTime() {
+        return moveListenerTime;
+    }
+
+    public LatencyHistogram getCommandListenerTime() {
+        return commandListenerTime;
+    }
+
+    @Override
+    public int getActiveSessions() {
+        return activeSessions.getAsInt();
+    }
+
+    @Override
+    public long getStarts() {
+        return starts.sum();
+    }
+
+    @Override
+    public long getCompletions() {
+        return completions.sum();
+    }
+
+    @Override
+    public long getAbandons() {
+        return abandons.sum();
+    }
+
+    @Override
+    public long getQueuedStarts() {
+        return queuedStarts.sum();
+    }
+
+    @Override
+    public long getFreezeCorrections() {
+        return freezeCorrections.sum();
+    }
+
+    @Override
+    public long getCommandsBlocked() {
+        return commandsBlocked.sum();
+    }
+
+    @Override
+    public double getStepMeanMillis() {
+        return stepTime.getMeanMillis();
+    }
+
+    @Override
+    public double getStepP99Millis() {
+        return stepTime.getPercentileMillis(99);
+    }
+
+    @Override
+    public double getTeleportMeanMillis() {
+        return teleportTime.getMeanMillis();
+    }
+
+    @Override
+    public double getTeleportP99Millis() {
+        return teleportTime.getPercentileMillis(99);
+    }
+
+    @Override
+    public double getTeleportMaxMillis() {
+        return teleportTime.getMaxMillis();
+    }
+
+    @Override
+    public double getEventDispatchMeanMillis() {
+        return eventDispatchTime.getMeanMillis();
+    }
+
+    @Override
+    public double getEventDispatchP99Millis() {
+        return eventDispatchTime.getPercentileMillis(99);
+    }
+
+    @Override
+    public double getMoveListenerP99Millis() {
+        return moveListenerTime.getPercentileMillis(99);
+    }
+
+    @Override
+    public double getCommandListenerP99Millis() {
+        return commandListenerTime.getPercentileMillis(99);
+    }
+
+    /**
+     * Gets the abandon count per step index, trimmed after the last step with any abandons.
+     * The last tracked index also counts every later step.
+     */
+    @Override
+    public long[] getAbandonsPerStep() {
+        int length = TRACKED_STEPS;
+        while (length > 0 && abandonsPerStep.get(length - 1) == 0) {
+            length--;
+        }
+
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = abandonsPerStep.get(i);
+        }
+        return values;
+    }
+
+    @Override
+    public void reset() {
+        starts.reset();
+        completions.reset();
+        abandons.reset();
+        queuedStarts.reset();
+        freezeCorrections.reset();
+        commandsBlocked.reset();
+        for (int i = 0; i < TRACKED_STEPS; i++) {
+            abandonsPerStep.set(i, 0L);
+        }
+
+        startTime.reset();
+        stopTime.reset();
+        completeTime.reset();
+        stepTime.reset();
+        teleportTime.reset();
+        eventDispatchTime.reset();
+        moveListenerTime.reset();
+        commandListenerTime.reset();
+    }
+}
@@ -0,0 +1,48 @@
+package me.lubomirstankov.gotCraftTutorial.metrics;
+
+/**
+ * JMX view of {@link TutorialMetrics}. Times are in milliseconds.
+ */
+public interface TutorialMetricsMBean {
+    int getActiveSessions();
+
+    long getStarts();
+
+    long getCompletions();
+
+    long getAbandons();
+
+    long getQueuedStarts();
+
+    long getFreezeCorrections();
+
+    long getCommandsBlocked();
+
+    double getStepMeanMillis();
+
+    double getStepP99Millis();
+
+    double getTeleportMeanMillis();
+
+    double getTeleportP99Millis();
+
+    double getTeleportMaxMillis();
+
+    double getEventDispatchMeanMillis();
+
+    double getEventDispatchP99Millis();
+
+    double getMoveListenerP99Millis();
+
+    double getCommandListenerP99Millis();
+
+    /**
+     * Gets the abandon count per step index.
+     */
+    long[] getAbandonsPerStep();
+
+    /**
+     * Clears every counter and histogram.
+     */
+    void reset();
+}
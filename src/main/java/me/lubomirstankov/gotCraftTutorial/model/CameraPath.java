@@ -0,0 +1,178 @@
+package me.lubomirstankov.gotCraftTutorial.model;
+
+import java.util.UUID;
+
+/**
+ * Immutable camera keyframes for the transitions into every step of one tutorial version.
+ * Positions follow a Catmull-Rom spline through the step locations, and yaw and pitch are
+ * eased along the shortest turn. Frames are stored in flat primitive arrays, one frame per
+ * tick, so applying a frame on the main thread only reads array slots.
+ *
+ * <p>The transition into step {@code i} holds the frames between step {@code i - 1}
+ * and step {@code i}, excluding both endpoints. It is empty for the first step and
+ * whenever the two steps are in different worlds.</p>
+ */
+public final class CameraPath {
+    private final String tutorialId;
+    private final long version;
+    private final int[] offsets;
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    private final float[] yaw;
+    private final float[] pitch;
+
+    private CameraPath(String tutorialId, long version, int[] offsets, double[] x, double[] y, double[] z, float[] yaw, float[] pitch) {
+        this.tutorialId = tutorialId;
+        this.version = version;
+        this.offsets = offsets;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.yaw = yaw;
+        this.pitch = pitch;
+    }
+
+    /**
+     * Computes the keyframes for a tutorial. Pure arithmetic, safe to call off the main thread.
+     * @param tutorialId Tutorial id
+     * @param version Definition version the points were read from
+     * @param worlds World of every step, in step order
+     * @param points x, y, z, yaw and pitch of every step, five values per step
+     * @param framesPerTransition Ticks one transition takes
+     */
+    public static CameraPath compute(String tutorialId, long version, UUID[] worlds, double[] points, int framesPerTransition) {
+        int steps = worlds.length;
+        int inner = Math.max(0, framesPerTransition - 1);
+
+        int[] offsets = new int[steps + 1];
+        for (int i = 0; i < steps; i++) {
+            boolean moves = i > 0 && inner > 0 && worlds[i - 1] != null && worlds[i - 1].equals(worlds[i]);
+            offsets[i + 1] = offsets[i] + (moves ? inner : 0);
+        }
+
+        int total = offsets[steps];
+        double[] x = new double[total];
+        double[] y = new double[total];
+        double[] z = new double[total];
+        float[] yaw = new float[total];
+        float[] pitch = new float[total];
+
+        for (int i = 1; i < steps; i++) {
+            int frame = offsets[i];
+            if (offsets[i + 1] == frame) {
+                continue;
+            }
+
+            // Neighbours in another world would bend the curve toward unrelated coordinates
+            int p0 = i >= 2 && worlds[i].equals(worlds[i - 2]) ? i - 2 : i - 1;
+            int p3 = i + 1 < steps && worlds[i].equals(worlds[i + 1]) ? i + 1 : i;
+            float yawDelta = wrapDegrees((float) points[i * 5 + 3] - (float) points[(i - 1) * 5 + 3]);
+
+            for (int f = 1; f <= inner; f++, frame++) {
+                double t = ease((double) f / framesPerTransition);
+                x[frame] = catmullRom(points, p0, i - 1, i, p3, 0, t);
+                y[frame] = catmullRom(points, p0, i - 1, i, p3, 1, t);
+                z[frame] = catmullRom(points, p0, i - 1, i, p3, 2, t);
+                yaw[frame] = (float) (points[(i - 1) * 5 + 3] + yawDelta * t);
+                pitch[frame] = (float) (points[(i - 1) * 5 + 4] + (points[i * 5 + 4] - points[(i - 1) * 5 + 4]) * t);
+            }
+        }
+
+        return new CameraPath(tutorialId, version, offsets, x, y, z, yaw, pitch);
+    }
+
+    /**
+     * Checks whether these keyframes were computed from the given definition.
+     */
+    public boolean matches(TutorialDefinition definition) {
+        return version == definition.getVersion() && offsets.length == definition.size() + 1
+            && tutorialId.equals(definition.getId());
+    }
+
+    public String getTutorialId() {
+        return tutorialId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the index of the first frame of the transition into a step.
+     */
+    public int start(int stepIndex) {
+        return offsets[stepIndex];
+    }
+
+    /**
+     * Gets the index after the last frame of the transition into a step.
+     */
+    public int end(int stepIndex) {
+        return offsets[stepIndex + 1];
+    }
+
+    /**
+     * Gets the number of steps these keyframes cover.
+     */
+    public int getStepCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Gets the total number of frames.
+     */
+    public int getFrameCount() {
+        return x.length;
+    }
+
+    public double getX(int frame) {
+        return x[frame];
+    }
+
+    public double getY(int frame) {
+        return y[frame];
+    }
+
+    public double getZ(int frame) {
+        return z[frame];
+    }
+
+    public float getYaw(int frame) {
+        return yaw[frame];
+    }
+
+    public float getPitch(int frame) {
+        return pitch[frame];
+    }
+
+    /**
+     * Uniform Catmull-Rom interpolation of one coordinate between p1 and p2.
+     */
+    private static double catmullRom(double[] points, int p0, int p1, int p2, int p3, int axis, double t) {
+        double a = points[p0 * 5 + axis];
+        double b = points[p1 * 5 + axis];
+        double c = points[p2 * 5 + axis];
+        double d = points[p3 * 5 + axis];
+        double t2 = t * t;
+        double t3 = t2 * t;
+        return 0.5 * (2 * b + (c - a) * t + (2 * a - 5 * b + 4 * c - d) * t2 + (3 * b - a - 3 * c + d) * t3);
+    }
+
+    /**
+     * Smoothstep easing, so the camera accelerates away from a step and settles into the next.
+     */
+    private static double ease(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    private static float wrapDegrees(float degrees) {
+        float wrapped = degrees % 360.0f;
+        if (wrapped >= 180.0f) {
+            wrapped -= 360.0f;
+        } else if (wrapped < -180.0f) {
+            wrapped += 360.0f;
+        }
+        return wrapped;
+    }
+}
@@ -0,0 +1,24 @@
+package me.lubomirstankov.gotCraftTutorial.model;
+
+import java.util.UUID;
+
+/**
+ * Saved position of a tutorial session that was interrupted by a quit or a restart.
+ * @param playerId Player UUID
+ * @param tutorialId Tutorial the session was running
+ * @param fingerprint {@link TutorialDefinition#fingerprint()} of the definition it ran
+ * @param step Step index (0-based) the player was on
+ * @param elapsedMillis Time spent in the session before it was interrupted
+ * @param savedAt When the snapshot was taken, in epoch millis
+ */
+public record SessionSnapshot(UUID playerId, String tutorialId, long fingerprint, int step, long elapsedMillis, long savedAt) {
+
+    /**
+     * Captures the position of a running session.
+     */
+    public static SessionSnapshot of(TutorialSession session, long now) {
+        TutorialDefinition definition = session.getDefinition();
+        return new SessionSnapshot(session.getPlayer().getUniqueId(), definition.getId(), definition.fingerprint(),
+            session.getCurrentStep(), now - session.getStartTime(), now);
+    }
+}
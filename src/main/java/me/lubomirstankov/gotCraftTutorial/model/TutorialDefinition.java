@@ -0,0 +1,152 @@
+package me.lubomirstankov.gotCraftTutorial.model;
+
+import org.bukkit.Location;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Immutable, versioned set of tutorial steps ordered by step number.
+ * Edits produce a new definition; sessions keep the one they started with,
+ * so an edit can never shift the step a running session is on.
+ */
+public final class TutorialDefinition {
+    private static final TutorialStep[] NO_STEPS = new TutorialStep[0];
+
+    private final String id;
+    private final long version;
+    private final TutorialStep[] steps;
+
+    private TutorialDefinition(String id, long version, TutorialStep[] steps) {
+        this.id = id;
+        this.version = version;
+        this.steps = steps;
+    }
+
+    /**
+     * Creates a definition from steps already sorted by step number.
+     * @param id Tutorial id
+     * @param version Version number
+     * @param steps Sorted steps
+     */
+    public static TutorialDefinition of(String id, long version, List<TutorialStep> steps) {
+        return new TutorialDefinition(id, version, steps.toArray(NO_STEPS));
+    }
+
+    /**
+     * Gets the id of the tutorial this definition belongs to.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the version number, increased by every edit.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Computes a hash of the step numbers and locations. Unlike the version number it is
+     * stable across restarts, so a stored session can tell whether the tutorial changed.
+     * Titles and MOTD are not included; editing them does not invalidate a saved position.
+     */
+    public long fingerprint() {
+        long hash = id.hashCode();
+        for (TutorialStep step : steps) {
+            Location location = step.getLocation();
+            hash = 31 * hash + step.getStepNumber();
+            hash = 31 * hash + (location.getWorld() != null ? location.getWorld().getUID().hashCode() : 0);
+            hash = 31 * hash + Double.hashCode(location.getX());
+            hash = 31 * hash + Double.hashCode(location.getY());
+            hash = 31 * hash + Double.hashCode(location.getZ());
+        }
+        return hash;
+    }
+
+    public TutorialStep getStep(int index) {
+        return steps[index];
+    }
+
+    public int size() {
+        return steps.length;
+    }
+
+    public boolean isEmpty() {
+        return steps.length == 0;
+    }
+
+    /**
+     * Gets the steps in order.
+     */
+    public List<TutorialStep> getSteps() {
+        return List.of(steps);
+    }
+
+    /**
+     * Finds the index of the step with the given step number.
+     * @return Index, or a negative value if there is no such step
+     */
+    public int indexOf(int stepNumber) {
+        int low = 0;
+        int high = steps.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midNumber = steps[mid].getStepNumber();
+            if (midNumber < stepNumber) {
+                low = mid + 1;
+            } else if (midNumber > stepNumber) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns a new version with the step at the given index replaced.
+     */
+    public TutorialDefinition withStep(int index, TutorialStep step) {
+        TutorialStep[] updated = steps.clone();
+        updated[index] = step;
+        return new TutorialDefinition(id, version + 1, updated);
+    }
+
+    /**
+     * Returns a new version with a step inserted in step-number order.
+     * The step number must not already exist.
+     */
+    public TutorialDefinition withInsertedStep(TutorialStep step) {
+        int insertAt = -(indexOf(step.getStepNumber()) + 1);
+        TutorialStep[] updated = new TutorialStep[steps.length + 1];
+        System.arraycopy(steps, 0, updated, 0, insertAt);
+        updated[insertAt] = step;
+        System.arraycopy(steps, insertAt, updated, insertAt + 1, steps.length - insertAt);
+        return new TutorialDefinition(id, version + 1, updated);
+    }
+
+    /**
+     * Returns a new version without the step at the given index.
+     */
+    public TutorialDefinition withoutStep(int index) {
+        TutorialStep[] updated = new TutorialStep[steps.length - 1];
+        System.arraycopy(steps, 0, updated, 0, index);
+        System.arraycopy(steps, index + 1, updated, index, steps.length - index - 1);
+        return new TutorialDefinition(id, version + 1, updated);
+    }
+
+    /**
+     * Returns a copy with every step transformed, keeping the version number.
+     * Used to rebuild position-dependent payloads after an insert or removal.
+     * @param mapper Receives each step and its index
+     */
+    public TutorialDefinition mapSteps(BiFunction<TutorialStep, Integer, TutorialStep> mapper) {
+        TutorialStep[] updated = new TutorialStep[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            updated[i] = mapper.apply(steps[i], i);
+        }
+        return new TutorialDefinition(id, version, updated);
+    }
+}
@@ -7,19 +7,36 @@ import org.bukkit.entity.Player;
  */
 public class TutorialSession {
     private final Player player;
-    private int currentStep;
+    private final TutorialDefinition definition;
+    private volatile int currentStep;
     private final long startTime;
 
-    public TutorialSession(Player player) {
+    public TutorialSession(Player player, TutorialDefinition definition) {
+        this(player, definition, System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a session that started earlier, e.g. one resumed from a {@link SessionSnapshot}.
+     * @param startTime When the session started, in epoch millis
+     */
+    public TutorialSession(Player player, TutorialDefinition definition, long startTime) {
         this.player = player;
+        this.definition = definition;
         this.currentStep = 0;
-        this.startTime = System.currentTimeMillis();
+        this.startTime = startTime;
     }
 
     public Player getPlayer() {
         return player;
     }
 
+    /**
+     * Gets the tutorial version this session started with.
+     */
+    public TutorialDefinition getDefinition() {
+        return definition;
+    }
+
     public int getCurrentStep() {
         return currentStep;
     }
@@ -1,20 +1,34 @@
 package me.lubomirstankov.gotCraftTutorial.model;
 
+import me.lubomirstankov.gotCraftTutorial.config.MessageRegistry;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.title.Title;
 import org.bukkit.Location;
+
+import java.time.Duration;
 import java.util.List;
 
 /**
  * Represents a single step in the tutorial sequence.
+ * Holds the title and MOTD already rendered, so showing a step does no text work.
  */
 public class TutorialStep {
+    private static final Title.Times FIRST_STEP_TIMES = Title.Times.times(Duration.ofMillis(500), Duration.ofSeconds(5), Duration.ofMillis(500));
+    private static final Title.Times STEP_TIMES = Title.Times.times(Duration.ofMillis(500), Duration.ofSeconds(3), Duration.ofMillis(500));
+
     private final int stepNumber;
     private final Location location;
     private final List<String> motdLines;
+    private final Title title;
+    private final List<Component> motd;
 
-    public TutorialStep(int stepNumber, Location location, List<String> motdLines) {
+    public TutorialStep(int stepNumber, Location location, List<String> motdLines, Title title, List<Component> motd) {
         this.stepNumber = stepNumber;
         this.location = location;
         this.motdLines = motdLines;
+        this.title = title;
+        this.motd = motd;
     }
 
     public int getStepNumber() {
@@ -25,8 +39,50 @@ public class TutorialStep {
         return location;
     }
 
+    /**
+     * Gets the raw MOTD lines as written in config.
+     */
     public List<String> getMotdLines() {
         return motdLines;
     }
-}
 
+    /**
+     * Gets the pre-built title shown when entering this step.
+     */
+    public Title getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns a copy of this step with a different title.
+     */
+    public TutorialStep withTitle(Title title) {
+        return new TutorialStep(stepNumber, location, motdLines, title, motd);
+    }
+
+    /**
+     * Gets the pre-rendered MOTD lines, with blank lines already removed.
+     */
+    public List<Component> getMotd() {
+        return motd;
+    }
+
+    /**
+     * Builds the title shown at a step position. The tutorial title is only shown on the first step.
+     * @param tutorialTitle Tutorial title as written in config
+     * @param subtitleFormat Subtitle with {@code {current}} and {@code {total}} placeholders
+     * @param index 0-based step position
+     * @param total Number of steps
+     */
+    public static Title buildTitle(String tutorialTitle, String subtitleFormat, int index, int total) {
+        Component subtitle = MessageRegistry.parse(subtitleFormat
+            .replace("{current}", String.valueOf(index + 1))
+            .replace("{total}", String.valueOf(total)));
+
+        if (index == 0) {
+            Component titleComponent = MessageRegistry.parse(tutorialTitle).decoration(TextDecoration.BOLD, true);
+            return Title.title(titleComponent, subtitle, FIRST_STEP_TIMES);
+        }
+        return Title.title(Component.empty(), subtitle, STEP_TIMES);
+    }
+}
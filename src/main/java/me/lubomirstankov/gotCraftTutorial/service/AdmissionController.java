@@ -0,0 +1,288 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigSnapshot;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Limits how many sessions run at once and how many start per tick.
+ * Players over either limit wait in a FIFO queue that is drained every tick,
+ * and are shown their position whenever it changes. Players resuming an interrupted session
+ * wait in a queue of their own that is always drained first, so a mass rejoin after a
+ * restart is throttled without sending those players behind new starts.
+ * Safe to call from any thread. The queue is drained on the global region, and admitted
+ * players are started and notified on the thread that owns them.
+ */
+public class AdmissionController {
+    private final GotCraftTutorial plugin;
+    private final ConfigManager configManager;
+    private final IntSupplier activeSessions;
+    private final BiConsumer<Player, String> onAdmit;
+    private final Consumer<Player> onResume;
+    private final LinkedHashSet<UUID> resumeQueue;
+    private final LinkedHashMap<UUID, String> queue;
+    private ScheduledTask drainTask;
+    private int currentTick = -1;
+    private int startsThisTick;
+    private int pendingStarts;
+    private boolean positionsChanged;
+    private int peakQueued;
+
+    /**
+     * @param plugin Owning plugin
+     * @param configManager Source of the admission limits
+     * @param activeSessions Current number of running sessions
+     * @param onAdmit Starts the given tutorial for a player leaving the queue, called on the player's thread
+     * @param onResume Resumes the interrupted session of a player leaving the resume queue, called on the player's thread
+     */
+    public AdmissionController(GotCraftTutorial plugin, ConfigManager configManager, IntSupplier activeSessions,
+                               BiConsumer<Player, String> onAdmit, Consumer<Player> onResume) {
+        this.plugin = plugin;
+        this.configManager = configManager;
+        this.activeSessions = activeSessions;
+        this.onAdmit = onAdmit;
+        this.onResume = onResume;
+        this.resumeQueue = new LinkedHashSet<>();
+        this.queue = new LinkedHashMap<>();
+    }
+
+    /**
+     * Claims a start slot for a new request. Fails whenever anyone is already
+     * queued, so new requests never overtake waiting players.
+     * @return true if the session may start now
+     */
+    public synchronized boolean tryAdmit() {
+        return queue.isEmpty() && resumeQueue.isEmpty() && claimSlot();
+    }
+
+    /**
+     * Claims a start slot for resuming an interrupted session. Only other waiting
+     * resumes take precedence; new requests in the queue do not.
+     * @return true if the session may resume now
+     */
+    public synchronized boolean tryAdmitResume() {
+        return resumeQueue.isEmpty() && claimSlot();
+    }
+
+    /**
+     * Adds a player to the back of the queue.
+     * @param playerId Player UUID
+     * @param tutorialId Tutorial to start once admitted
+     * @return The player's 1-based position
+     */
+    public synchronized int enqueue(UUID playerId, String tutorialId) {
+        queue.put(playerId, tutorialId);
+        peakQueued = Math.max(peakQueued, resumeQueue.size() + queue.size());
+
+        startDrain();
+        return resumeQueue.size() + queue.size();
+    }
+
+    /**
+     * Adds a player resuming an interrupted session to the back of the resume queue,
+     * ahead of every new request.
+     * @return The player's 1-based position
+     */
+    public synchronized int enqueueResume(UUID playerId) {
+        if (resumeQueue.add(playerId)) {
+            // Everyone waiting for a new start moved back
+            positionsChanged |= !queue.isEmpty();
+        }
+        peakQueued = Math.max(peakQueued, resumeQueue.size() + queue.size());
+        startDrain();
+        return getPosition(playerId);
+    }
+
+    private void startDrain() {
+        if (drainTask == null) {
+            drainTask = Schedulers.runGlobalTimer(plugin, this::drain, 1L, 1L);
+        }
+    }
+
+    /**
+     * Removes a player from the queue.
+     * @return true if the player was queued
+     */
+    public synchronized boolean remove(UUID playerId) {
+        if (!resumeQueue.remove(playerId) && queue.remove(playerId) == null) {
+            return false;
+        }
+        positionsChanged = true;
+        return true;
+    }
+
+    public synchronized boolean isQueued(UUID playerId) {
+        return resumeQueue.contains(playerId) || queue.containsKey(playerId);
+    }
+
+    /**
+     * Checks whether a player waits to resume an interrupted session.
+     */
+    public synchronized boolean isResumeQueued(UUID playerId) {
+        return resumeQueue.contains(playerId);
+    }
+
+    /**
+     * Gets a player's 1-based queue position, or 0 if not queued.
+     */
+    public synchronized int getPosition(UUID playerId) {
+        int position = 1;
+        for (UUID queued : resumeQueue) {
+            if (queued.equals(playerId)) {
+                return position;
+            }
+            position++;
+        }
+        for (UUID queued : queue.keySet()) {
+            if (queued.equals(playerId)) {
+                return position;
+            }
+            position++;
+        }
+        return 0;
+    }
+
+    /**
+     * Drops every queued player and stops the drain task.
+     */
+    public synchronized void clear() {
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+        resumeQueue.clear();
+        queue.clear();
+        positionsChanged = false;
+    }
+
+    public synchronized int getQueueSize() {
+        return resumeQueue.size() + queue.size();
+    }
+
+    public synchronized int getPeakQueued() {
+        return peakQueued;
+    }
+
+    private void drain() {
+        // Pick players under the lock, but start and notify them outside it
+        List<UUID> resumed = new ArrayList<>();
+        List<Admission> admitted = new ArrayList<>();
+        List<Admission> positions = new ArrayList<>();
+        synchronized (this) {
+            while (!resumeQueue.isEmpty() && claimSlot()) {
+                Iterator<UUID> head = resumeQueue.iterator();
+                resumed.add(head.next());
+                head.remove();
+                pendingStarts++;
+                positionsChanged = true;
+            }
+            while (resumeQueue.isEmpty() && !queue.isEmpty() && claimSlot()) {
+                Iterator<Map.Entry<UUID, String>> head = queue.entrySet().iterator();
+                Map.Entry<UUID, String> next = head.next();
+                admitted.add(new Admission(next.getKey(), next.getValue()));
+                head.remove();
+                pendingStarts++;
+                positionsChanged = true;
+            }
+
+            if (positionsChanged) {
+                positionsChanged = false;
+                int position = 1;
+                for (UUID playerId : resumeQueue) {
+                    positions.add(new Admission(playerId, String.valueOf(position++)));
+                }
+                for (UUID playerId : queue.keySet()) {
+                    positions.add(new Admission(playerId, String.valueOf(position++)));
+                }
+            }
+
+            if (resumeQueue.isEmpty() && queue.isEmpty() && drainTask != null) {
+                drainTask.cancel();
+                drainTask = null;
+            }
+        }
+
+        for (UUID playerId : resumed) {
+            start(playerId, onResume);
+        }
+        for (Admission admission : admitted) {
+            start(admission.playerId(), player -> onAdmit.accept(player, admission.value()));
+        }
+        for (Admission position : positions) {
+            Player player = Bukkit.getPlayer(position.playerId());
+            if (player != null) {
+                Schedulers.runForEntity(plugin, player, () ->
+                    player.sendActionBar(configManager.getMessage("tutorial-queue-position", "position", position.value())));
+            }
+        }
+    }
+
+    /**
+     * Starts an admitted player's session on the thread that owns them.
+     */
+    private void start(UUID playerId, Consumer<Player> starter) {
+        Player player = Bukkit.getPlayer(playerId);
+        if (player == null) {
+            startHandled();
+            return;
+        }
+        Schedulers.runForEntity(plugin, player, () -> {
+            try {
+                starter.accept(player);
+            } finally {
+                startHandled();
+            }
+        }, this::startHandled);
+    }
+
+    /**
+     * Marks an admitted player's start as done, whether it succeeded or not.
+     */
+    private synchronized void startHandled() {
+        pendingStarts--;
+    }
+
+    /**
+     * Claims one start on the current tick if both limits allow it. Admitted players
+     * whose session has not started yet count toward the concurrency limit.
+     */
+    private boolean claimSlot() {
+        int tick = Bukkit.getCurrentTick();
+        if (tick != currentTick) {
+            currentTick = tick;
+            startsThisTick = 0;
+        }
+
+        ConfigSnapshot settings = configManager.getSnapshot();
+        if (settings.getMaxConcurrentSessions() > 0 && activeSessions.getAsInt() + pendingStarts >= settings.getMaxConcurrentSessions()) {
+            return false;
+        }
+        if (settings.getMaxStartsPerTick() > 0 && startsThisTick >= settings.getMaxStartsPerTick()) {
+            return false;
+        }
+
+        startsThisTick++;
+        return true;
+    }
+
+    /**
+     * A queued player and the tutorial id or queue position to hand them.
+     */
+    private record Admission(UUID playerId, String value) {
+    }
+}
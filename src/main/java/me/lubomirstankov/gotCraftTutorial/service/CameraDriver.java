@@ -0,0 +1,238 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.model.CameraPath;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves players along precomputed camera keyframes, one frame per tick.
+ * A tick only copies a frame into a reused location and teleports; frames over unloaded
+ * chunks are skipped so a flight never loads terrain synchronously. The number of players
+ * moving at once is capped, and transitions over the cap fall back to a plain teleport.
+ *
+ * <p>On Paper every flight is driven by one global task. On Folia each flight runs as a
+ * task on its player's entity scheduler and moves with async teleports, skipping frames
+ * outside the player's current region. Safe to call from any thread.</p>
+ */
+public class CameraDriver {
+    private final GotCraftTutorial plugin;
+    private final Arrival onArrive;
+    private final Map<UUID, Movement> movements;
+    private ScheduledTask driver;
+    private int peakActive;
+    private long rejected;
+
+    /**
+     * @param plugin Owning plugin
+     * @param onArrive Called when a movement has played its last frame, to place the player on the step
+     */
+    public CameraDriver(GotCraftTutorial plugin, Arrival onArrive) {
+        this.plugin = plugin;
+        this.onArrive = onArrive;
+        this.movements = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts moving a player along the transition into a step, replacing any movement in progress.
+     * The driver task is started on demand and stops once nobody is moving.
+     * @param player Player to move
+     * @param path Keyframes of the player's tutorial
+     * @param stepIndex Step the player is moving to
+     * @param target Exact location of that step
+     * @param maxConcurrent Most players moving at once, or 0 for no limit
+     * @return false if the transition has no frames or the cap is reached; the caller should teleport instead
+     */
+    public boolean start(Player player, CameraPath path, int stepIndex, Location target, int maxConcurrent) {
+        UUID playerId = player.getUniqueId();
+        cancel(playerId);
+
+        int first = path.start(stepIndex);
+        int end = path.end(stepIndex);
+        if (first == end || target.getWorld() == null) {
+            return false;
+        }
+
+        Movement movement = new Movement(player, path, first, end, stepIndex, target);
+        synchronized (this) {
+            if (maxConcurrent > 0 && movements.size() >= maxConcurrent) {
+                rejected++;
+                return false;
+            }
+            movements.put(playerId, movement);
+            peakActive = Math.max(peakActive, movements.size());
+
+            if (!Schedulers.isFolia()) {
+                if (driver == null) {
+                    driver = Schedulers.runGlobalTimer(plugin, this::tick, 1L, 1L);
+                }
+                return true;
+            }
+        }
+
+        movement.task = player.getScheduler().runAtFixedRate(plugin, task -> {
+            if (!advance(movement)) {
+                task.cancel();
+            }
+        }, () -> movements.remove(playerId, movement), 1L, 1L);
+        if (movement.task == null) {
+            movements.remove(playerId, movement);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops moving a player, leaving them where they are.
+     * @return true if the player was moving
+     */
+    public boolean cancel(UUID playerId) {
+        Movement movement = movements.remove(playerId);
+        if (movement == null) {
+            return false;
+        }
+        if (movement.task != null) {
+            movement.task.cancel();
+        }
+        return true;
+    }
+
+    /**
+     * Stops the driver task and drops every movement.
+     */
+    public void stop() {
+        synchronized (this) {
+            if (driver != null) {
+                driver.cancel();
+                driver = null;
+            }
+        }
+        for (UUID playerId : movements.keySet()) {
+            cancel(playerId);
+        }
+    }
+
+    /**
+     * Gets the number of players currently moving.
+     */
+    public int getActive() {
+        return movements.size();
+    }
+
+    /**
+     * Gets the most players that were moving at once.
+     */
+    public synchronized int getPeakActive() {
+        return peakActive;
+    }
+
+    /**
+     * Gets how many transitions fell back to a teleport because the cap was reached.
+     */
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    private void tick() {
+        // The map tolerates removal while iterating, e.g. when a teleport listener stops a tutorial
+        for (Movement movement : movements.values()) {
+            advance(movement);
+        }
+
+        synchronized (this) {
+            if (movements.isEmpty() && driver != null) {
+                driver.cancel();
+                driver = null;
+            }
+        }
+    }
+
+    /**
+     * Plays the next frame of a movement, or finishes it.
+     * @return false once the movement is over or was replaced
+     */
+    private boolean advance(Movement movement) {
+        Player player = movement.player;
+        UUID playerId = player.getUniqueId();
+        if (movements.get(playerId) != movement) {
+            return false;
+        }
+        if (!player.isOnline()) {
+            movements.remove(playerId, movement);
+            return false;
+        }
+
+        if (movement.frame >= movement.end) {
+            if (movements.remove(playerId, movement)) {
+                onArrive.arrive(player, movement.stepIndex, movement.target);
+            }
+            return false;
+        }
+
+        int frame = movement.frame++;
+        CameraPath path = movement.path;
+        double x = path.getX(frame);
+        double z = path.getZ(frame);
+        int chunkX = (int) Math.floor(x) >> 4;
+        int chunkZ = (int) Math.floor(z) >> 4;
+        Location location = movement.location;
+        if (Schedulers.isFolia()) {
+            // Only the owning region may be entered synchronously; the async teleport keeps its own copy
+            if (Bukkit.isOwnedByCurrentRegion(movement.world, chunkX, chunkZ)) {
+                location.set(x, path.getY(frame), z);
+                location.setYaw(path.getYaw(frame));
+                location.setPitch(path.getPitch(frame));
+                player.teleportAsync(location.clone());
+            }
+        } else if (movement.world.isChunkLoaded(chunkX, chunkZ)) {
+            location.set(x, path.getY(frame), z);
+            location.setYaw(path.getYaw(frame));
+            location.setPitch(path.getPitch(frame));
+            player.teleport(location);
+        }
+        return true;
+    }
+
+    /**
+     * Receives a player whose movement has finished.
+     */
+    @FunctionalInterface
+    public interface Arrival {
+        void arrive(Player player, int stepIndex, Location target);
+    }
+
+    /**
+     * Progress of one player along a transition. The location is reused for every frame.
+     * Only the thread driving the movement touches the frame.
+     */
+    private static final class Movement {
+        private final Player player;
+        private final CameraPath path;
+        private final int end;
+        private final int stepIndex;
+        private final Location target;
+        private final World world;
+        private final Location location;
+        private int frame;
+        private volatile ScheduledTask task;
+
+        private Movement(Player player, CameraPath path, int first, int end, int stepIndex, Location target) {
+            this.player = player;
+            this.path = path;
+            this.frame = first;
+            this.end = end;
+            this.stepIndex = stepIndex;
+            this.target = target;
+            this.world = target.getWorld();
+            this.location = new Location(world, 0.0, 0.0, 0.0);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.model.CameraPath;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialDefinition;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+import org.bukkit.Location;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Precomputes the camera keyframes of every tutorial definition off the main thread.
+ * The step locations are copied into primitive arrays on the calling thread, and the
+ * spline is evaluated in an async task, so the main thread never does the interpolation.
+ * Until a definition's keyframes are ready, its transitions fall back to a plain teleport.
+ */
+public class CameraPathCache {
+    private final GotCraftTutorial plugin;
+    private final Map<String, CameraPath> paths;
+
+    public CameraPathCache(GotCraftTutorial plugin) {
+        this.plugin = plugin;
+        this.paths = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts computing the keyframes of a definition in the background.
+     * @param definition Definition to compute keyframes for
+     * @param framesPerTransition Ticks one transition takes; 1 or less disables the computation
+     */
+    public void precompute(TutorialDefinition definition, int framesPerTransition) {
+        if (framesPerTransition <= 1 || definition.size() < 2) {
+            paths.remove(definition.getId());
+            return;
+        }
+
+        int steps = definition.size();
+        UUID[] worlds = new UUID[steps];
+        double[] points = new double[steps * 5];
+        for (int i = 0; i < steps; i++) {
+            Location location = definition.getStep(i).getLocation();
+            worlds[i] = location.getWorld() != null ? location.getWorld().getUID() : null;
+            points[i * 5] = location.getX();
+            points[i * 5 + 1] = location.getY();
+            points[i * 5 + 2] = location.getZ();
+            points[i * 5 + 3] = location.getYaw();
+            points[i * 5 + 4] = location.getPitch();
+        }
+
+        String tutorialId = definition.getId();
+        long version = definition.getVersion();
+        Schedulers.runAsync(plugin, () -> {
+            try {
+                publish(CameraPath.compute(tutorialId, version, worlds, points, framesPerTransition));
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not compute camera path for tutorial " + tutorialId, e);
+            }
+        });
+    }
+
+    /**
+     * Gets the keyframes of a definition.
+     * @return Keyframes, or null if they are not computed (yet) for this exact version
+     */
+    public CameraPath get(TutorialDefinition definition) {
+        CameraPath path = paths.get(definition.getId());
+        return path != null && path.matches(definition) ? path : null;
+    }
+
+    /**
+     * Drops every computed path, e.g. on reload.
+     */
+    public void clear() {
+        paths.clear();
+    }
+
+    /**
+     * Gets the number of tutorials with computed keyframes.
+     */
+    public int size() {
+        return paths.size();
+    }
+
+    /**
+     * Publishes a path unless a newer version of the same tutorial finished first.
+     */
+    private void publish(CameraPath path) {
+        paths.merge(path.getTutorialId(), path, (current, computed) -> computed.getVersion() >= current.getVersion() ? computed : current);
+    }
+}
@@ -0,0 +1,119 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Loads the chunks around upcoming tutorial steps asynchronously and keeps them
+ * loaded with plugin chunk tickets until no session needs them anymore.
+ * Tickets are reference counted, since many sessions usually share the same steps.
+ * Sessions on different region threads share the reference counts, so access is synchronized.
+ */
+public class ChunkPreloader {
+    private final GotCraftTutorial plugin;
+    private final Map<ChunkRef, Integer> references;
+    private final Map<UUID, Hold> holds;
+
+    public ChunkPreloader(GotCraftTutorial plugin) {
+        this.plugin = plugin;
+        this.references = new HashMap<>();
+        this.holds = new HashMap<>();
+    }
+
+    /**
+     * Starts loading the chunks around a location and pins them for the given owner.
+     * Whatever the owner pinned before is released afterwards, so chunks in both holds
+     * keep their ticket instead of being unpinned and loaded again.
+     * @param owner Session owner
+     * @param location Target location
+     * @param radius Chunk radius around the target chunk
+     */
+    public synchronized void preload(UUID owner, Location location, int radius) {
+        if (location.getWorld() == null || radius < 0) {
+            release(owner);
+            return;
+        }
+
+        forEachChunk(location, radius, (world, x, z) -> {
+            if (references.merge(new ChunkRef(world.getUID(), x, z), 1, Integer::sum) == 1) {
+                world.getChunkAtAsync(x, z).thenAccept(this::pin);
+            }
+        });
+        release(owner);
+        holds.put(owner, new Hold(location, radius));
+    }
+
+    /**
+     * Releases the chunks pinned for an owner.
+     * @param owner Session owner
+     */
+    public synchronized void release(UUID owner) {
+        Hold hold = holds.remove(owner);
+        if (hold == null) {
+            return;
+        }
+
+        forEachChunk(hold.location(), hold.radius(), (world, x, z) -> {
+            ChunkRef ref = new ChunkRef(world.getUID(), x, z);
+            if (references.computeIfPresent(ref, (key, count) -> count > 1 ? count - 1 : null) == null) {
+                world.removePluginChunkTicket(x, z, plugin);
+            }
+        });
+    }
+
+    /**
+     * Releases every pinned chunk.
+     */
+    public synchronized void releaseAll() {
+        for (ChunkRef ref : references.keySet()) {
+            World world = plugin.getServer().getWorld(ref.world());
+            if (world != null) {
+                world.removePluginChunkTicket(ref.x(), ref.z(), plugin);
+            }
+        }
+        references.clear();
+        holds.clear();
+    }
+
+    /**
+     * Gets the number of chunks currently pinned.
+     */
+    public synchronized int getPinnedChunks() {
+        return references.size();
+    }
+
+    private synchronized void pin(Chunk chunk) {
+        // The last session may have released the chunk while it was loading
+        if (references.containsKey(new ChunkRef(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ()))) {
+            chunk.addPluginChunkTicket(plugin);
+        }
+    }
+
+    private static void forEachChunk(Location location, int radius, ChunkVisitor visitor) {
+        World world = location.getWorld();
+        int centerX = location.getBlockX() >> 4;
+        int centerZ = location.getBlockZ() >> 4;
+        for (int x = centerX - radius; x <= centerX + radius; x++) {
+            for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                visitor.visit(world, x, z);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkVisitor {
+        void visit(World world, int x, int z);
+    }
+
+    private record ChunkRef(UUID world, int x, int z) {
+    }
+
+    private record Hold(Location location, int radius) {
+    }
+}
@@ -0,0 +1,200 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigSnapshot;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Runs completion commands from a single queue, drained once per tick under a
+ * count and time budget. Whatever does not fit is left for the next tick, so a
+ * cohort finishing together cannot spike a single tick.
+ * Commands may be queued from any thread; they always run on the global region,
+ * which is the main thread on Paper.
+ */
+public class CommandDispatchQueue {
+    private final GotCraftTutorial plugin;
+    private final ConfigManager configManager;
+    private final ArrayDeque<PendingCommand> queue;
+    private final Map<String, CommandStats> stats;
+    private ScheduledTask drainTask;
+    private int peakDepth;
+    private volatile int lastTickDispatched;
+    private volatile long totalDispatched;
+
+    public CommandDispatchQueue(GotCraftTutorial plugin, ConfigManager configManager) {
+        this.plugin = plugin;
+        this.configManager = configManager;
+        this.queue = new ArrayDeque<>();
+        this.stats = new LinkedHashMap<>();
+    }
+
+    /**
+     * Queues a console command. The drain task is started on demand and stops once the queue is empty.
+     * @param template Command as configured, used to group timings
+     * @param command Command with placeholders replaced
+     */
+    public synchronized void enqueue(String template, String command) {
+        queue.addLast(new PendingCommand(template, command));
+        peakDepth = Math.max(peakDepth, queue.size());
+
+        if (drainTask == null) {
+            drainTask = Schedulers.runGlobalTimer(plugin, this::drain, 1L, 1L);
+        }
+    }
+
+    /**
+     * Runs every queued command immediately and stops the drain task (for plugin disable).
+     */
+    public void flush() {
+        synchronized (this) {
+            if (drainTask != null) {
+                drainTask.cancel();
+                drainTask = null;
+            }
+        }
+
+        PendingCommand pending;
+        while ((pending = poll()) != null) {
+            dispatch(pending);
+        }
+    }
+
+    private void drain() {
+        ConfigSnapshot settings = configManager.getSnapshot();
+        int maxCommands = settings.getCommandsPerTick();
+        long budgetNanos = settings.getCommandBudgetNanos();
+
+        // Always run at least one command so a slow command cannot stall the queue
+        long start = System.nanoTime();
+        int dispatched = 0;
+        PendingCommand pending;
+        while ((pending = poll()) != null) {
+            dispatch(pending);
+            dispatched++;
+
+            if ((maxCommands > 0 && dispatched >= maxCommands)
+                || (budgetNanos > 0 && System.nanoTime() - start >= budgetNanos)) {
+                break;
+            }
+        }
+        lastTickDispatched = dispatched;
+
+        synchronized (this) {
+            if (queue.isEmpty() && drainTask != null) {
+                drainTask.cancel();
+                drainTask = null;
+            }
+        }
+    }
+
+    /**
+     * Takes the next command, or null if the queue is empty. Commands run outside the lock,
+     * so a slow command never blocks a session queueing its own.
+     */
+    private synchronized PendingCommand poll() {
+        return queue.pollFirst();
+    }
+
+    private void dispatch(PendingCommand pending) {
+        long start = System.nanoTime();
+        try {
+            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), pending.command());
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "Completion command failed: " + pending.command(), e);
+        }
+
+        synchronized (stats) {
+            stats.computeIfAbsent(pending.template(), key -> new CommandStats()).record(System.nanoTime() - start);
+        }
+        totalDispatched++;
+    }
+
+    /**
+     * Gets the number of commands waiting to run.
+     */
+    public synchronized int getDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the deepest the queue has been.
+     */
+    public synchronized int getPeakDepth() {
+        return peakDepth;
+    }
+
+    /**
+     * Gets how many commands ran on the most recent drain.
+     */
+    public int getLastTickDispatched() {
+        return lastTickDispatched;
+    }
+
+    public long getTotalDispatched() {
+        return totalDispatched;
+    }
+
+    /**
+     * Gets a copy of the execution timings keyed by configured command, in config order of first use.
+     */
+    public Map<String, CommandStats> getStats() {
+        synchronized (stats) {
+            Map<String, CommandStats> copy = new LinkedHashMap<>();
+            stats.forEach((template, timing) -> copy.put(template, timing.copy()));
+            return Collections.unmodifiableMap(copy);
+        }
+    }
+
+    private record PendingCommand(String template, String command) {
+    }
+
+    /**
+     * Execution timings of one configured command.
+     */
+    public static final class CommandStats {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private CommandStats copy() {
+            CommandStats copy = new CommandStats();
+            copy.count = count;
+            copy.totalNanos = totalNanos;
+            copy.maxNanos = maxNanos;
+            return copy;
+        }
+
+        private void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the average execution time in milliseconds.
+         */
+        public double getAverageMillis() {
+            return count == 0 ? 0.0 : totalNanos / (double) count / 1_000_000.0;
+        }
+
+        /**
+         * Gets the slowest execution in milliseconds.
+         */
+        public double getMaxMillis() {
+            return maxNanos / 1_000_000.0;
+        }
+    }
+}
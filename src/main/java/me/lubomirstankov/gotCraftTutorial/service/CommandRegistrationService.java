@@ -40,7 +40,7 @@ public class CommandRegistrationService {
         }
 
         // Register /guideadmin command
-        GuideAdminCommand guideAdminCommand = new GuideAdminCommand(configManager, tutorialManager);
+        GuideAdminCommand guideAdminCommand = new GuideAdminCommand(plugin, configManager, tutorialManager);
 
         PluginCommand guideAdminCmd = plugin.getCommand("guideadmin");
         if (guideAdminCmd != null) {
@@ -0,0 +1,170 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.storage.CachedTutorialStorage;
+import me.lubomirstankov.gotCraftTutorial.util.ExpirySweeper;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+import me.lubomirstankov.gotCraftTutorial.util.UuidLongTable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Tracks tutorial cooldowns in memory and persists them through the {@link CachedTutorialStorage}.
+ * Lookups only ever touch the in-memory table; stored cooldowns are loaded in the background on
+ * startup, and each player's is read again on join, in case another server set it since.
+ * Expiry timestamps live in a primitive {@link UuidLongTable}, and expired entries are
+ * reclaimed once per second by a time-bucketed {@link ExpirySweeper}, whether or not the
+ * player ever returns. The table is guarded by this service's lock, so sessions on
+ * different region threads can check and set cooldowns concurrently.
+ */
+public class CooldownService {
+    private static final long SWEEP_INTERVAL_TICKS = 20L;
+    private static final long BUCKET_MILLIS = 1000L;
+    private static final int BUCKET_COUNT = 256;
+
+    private final GotCraftTutorial plugin;
+    private final CachedTutorialStorage storage;
+    private final UuidLongTable cooldowns;
+    private final ExpirySweeper sweeper;
+    private ScheduledTask sweepTask;
+    private volatile boolean loaded;
+
+    public CooldownService(GotCraftTutorial plugin, CachedTutorialStorage storage) {
+        this.plugin = plugin;
+        this.storage = storage;
+        this.cooldowns = new UuidLongTable(256);
+        this.sweeper = new ExpirySweeper(BUCKET_MILLIS, BUCKET_COUNT, System.currentTimeMillis());
+    }
+
+    /**
+     * Starts the expiry sweeper and loads stored cooldowns in the background.
+     * Entries are merged into the cache on the global region once read.
+     */
+    public void load() {
+        if (sweepTask == null) {
+            sweepTask = Schedulers.runGlobalTimer(plugin, this::sweep, SWEEP_INTERVAL_TICKS, SWEEP_INTERVAL_TICKS);
+        }
+
+        storage.loadCooldowns().whenComplete((entries, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "Failed to load stored cooldowns", error);
+            }
+            if (!plugin.isEnabled()) {
+                return;
+            }
+
+            Schedulers.runGlobal(plugin, () -> {
+                if (entries != null) {
+                    merge(entries);
+                }
+                loaded = true;
+            });
+        });
+    }
+
+    /**
+     * Checks whether stored cooldowns have been loaded yet.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Checks if a player is on cooldown.
+     */
+    public synchronized boolean isOnCooldown(UUID playerId) {
+        long cooldownEnd = cooldowns.get(playerId);
+        if (cooldownEnd == 0) {
+            return false;
+        }
+
+        if (System.currentTimeMillis() >= cooldownEnd) {
+            cooldowns.remove(playerId);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets remaining cooldown time in seconds.
+     */
+    public synchronized long getRemainingSeconds(UUID playerId) {
+        long cooldownEnd = cooldowns.get(playerId);
+        if (cooldownEnd == 0) {
+            return 0;
+        }
+
+        long remaining = (cooldownEnd - System.currentTimeMillis()) / 1000;
+        return Math.max(0, remaining);
+    }
+
+    /**
+     * Puts a player on cooldown and queues it for persistence.
+     * @param playerId Player UUID
+     * @param durationMillis Cooldown length in milliseconds
+     */
+    public void start(UUID playerId, long durationMillis) {
+        long expiresAt = System.currentTimeMillis() + durationMillis;
+        synchronized (this) {
+            put(playerId, expiresAt);
+        }
+        storage.saveCooldown(playerId, expiresAt);
+    }
+
+    /**
+     * Merges a cooldown read from storage for one player, keeping whichever ends later.
+     */
+    public synchronized void refresh(UUID playerId, long expiresAt) {
+        if (expiresAt > cooldowns.get(playerId) && expiresAt > System.currentTimeMillis()) {
+            put(playerId, expiresAt);
+        }
+    }
+
+    /**
+     * Merges loaded entries, keeping whichever cooldown ends later if one was set while loading.
+     */
+    private synchronized void merge(Map<UUID, Long> entries) {
+        entries.forEach((playerId, expiresAt) -> {
+            if (expiresAt > cooldowns.get(playerId)) {
+                put(playerId, expiresAt);
+            }
+        });
+    }
+
+    private synchronized void sweep() {
+        sweeper.sweep(cooldowns, System.currentTimeMillis());
+    }
+
+    private void put(UUID playerId, long expiresAt) {
+        long previous = cooldowns.put(playerId, expiresAt);
+        sweeper.track(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), previous, expiresAt);
+    }
+
+    /**
+     * Gets the number of cached cooldowns.
+     */
+    public synchronized int size() {
+        return cooldowns.size();
+    }
+
+    /**
+     * Gets the approximate heap size of the cooldown table and sweeper in bytes.
+     */
+    public synchronized long memoryFootprint() {
+        return cooldowns.memoryFootprint() + sweeper.memoryFootprint();
+    }
+
+    /**
+     * Stops the sweeper. Pending writes are flushed when the storage is closed.
+     */
+    public void shutdown() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+    }
+}
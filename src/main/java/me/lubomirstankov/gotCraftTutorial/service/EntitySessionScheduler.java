@@ -0,0 +1,117 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialSession;
+import org.bukkit.Bukkit;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Schedules each session's next step on its player's entity scheduler, so on Folia
+ * every step runs on the region thread that owns the player and sessions in different
+ * regions advance in parallel. Safe to call from any thread.
+ */
+public class EntitySessionScheduler implements SessionScheduler {
+    private final GotCraftTutorial plugin;
+    private final Consumer<TutorialSession> onDue;
+    private final Map<UUID, ScheduledTask> tasks;
+    private int currentTick = -1;
+    private int firedThisTick;
+    private int peakTickFired;
+    private long totalFired;
+
+    /**
+     * @param plugin Owning plugin
+     * @param onDue Called on the player's thread when a session's delay has elapsed
+     */
+    public EntitySessionScheduler(GotCraftTutorial plugin, Consumer<TutorialSession> onDue) {
+        this.plugin = plugin;
+        this.onDue = onDue;
+        this.tasks = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void start() {
+        // Tasks are created per schedule, there is no driver to start
+    }
+
+    @Override
+    public void stop() {
+        clear();
+    }
+
+    @Override
+    public void schedule(TutorialSession session, long delayTicks) {
+        UUID playerId = session.getPlayer().getUniqueId();
+        ScheduledTask[] self = new ScheduledTask[1];
+        self[0] = session.getPlayer().getScheduler().runDelayed(plugin, task -> fire(playerId, self[0], session),
+            () -> tasks.remove(playerId, self[0]), Math.max(1L, delayTicks));
+
+        // Null means the player entity was already removed, e.g. they just left
+        ScheduledTask previous = self[0] != null ? tasks.put(playerId, self[0]) : tasks.remove(playerId);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    @Override
+    public boolean cancel(UUID playerId) {
+        ScheduledTask task = tasks.remove(playerId);
+        if (task == null) {
+            return false;
+        }
+        task.cancel();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (UUID playerId : tasks.keySet()) {
+            cancel(playerId);
+        }
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    @Override
+    public synchronized int getLastTickFired() {
+        return firedThisTick;
+    }
+
+    @Override
+    public synchronized int getPeakTickFired() {
+        return peakTickFired;
+    }
+
+    @Override
+    public synchronized long getTotalFired() {
+        return totalFired;
+    }
+
+    private void fire(UUID playerId, ScheduledTask task, TutorialSession session) {
+        // A replaced or cancelled schedule may still fire once while being cancelled
+        if (!tasks.remove(playerId, task)) {
+            return;
+        }
+        recordFire();
+        onDue.accept(session);
+    }
+
+    private synchronized void recordFire() {
+        int tick = Bukkit.getCurrentTick();
+        if (tick != currentTick) {
+            currentTick = tick;
+            firedThisTick = 0;
+        }
+        firedThisTick++;
+        peakTickFired = Math.max(peakTickFired, firedThisTick);
+        totalFired++;
+    }
+}
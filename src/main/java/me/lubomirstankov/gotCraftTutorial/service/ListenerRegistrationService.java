@@ -3,6 +3,7 @@ package me.lubomirstankov.gotCraftTutorial.service;
 import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
 import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
 import me.lubomirstankov.gotCraftTutorial.listener.CommandBlockListener;
+import me.lubomirstankov.gotCraftTutorial.listener.PlayerJoinListener;
 import me.lubomirstankov.gotCraftTutorial.listener.PlayerMovementListener;
 import me.lubomirstankov.gotCraftTutorial.listener.PlayerQuitListener;
 import org.bukkit.Bukkit;
@@ -27,6 +28,7 @@ public class ListenerRegistrationService {
     public void registerListeners() {
         Bukkit.getPluginManager().registerEvents(new PlayerMovementListener(tutorialManager, configManager), plugin);
         Bukkit.getPluginManager().registerEvents(new CommandBlockListener(tutorialManager, configManager), plugin);
+        Bukkit.getPluginManager().registerEvents(new PlayerJoinListener(tutorialManager), plugin);
         Bukkit.getPluginManager().registerEvents(new PlayerQuitListener(tutorialManager), plugin);
     }
 }
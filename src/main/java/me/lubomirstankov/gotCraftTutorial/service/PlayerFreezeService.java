@@ -0,0 +1,50 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import org.bukkit.NamespacedKey;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.entity.Player;
+
+/**
+ * Freezes players through attribute modifiers instead of movement corrections.
+ * Modifiers are transient, so they are never saved with the player's data.
+ */
+public class PlayerFreezeService {
+    private static final Attribute[] FROZEN_ATTRIBUTES = {Attribute.MOVEMENT_SPEED, Attribute.JUMP_STRENGTH};
+
+    private final NamespacedKey modifierKey;
+    private final AttributeModifier modifier;
+
+    public PlayerFreezeService(GotCraftTutorial plugin) {
+        this.modifierKey = new NamespacedKey(plugin, "tutorial_freeze");
+        // Multiplying by (1 + -1) brings the attribute to zero
+        this.modifier = new AttributeModifier(modifierKey, -1.0, AttributeModifier.Operation.MULTIPLY_SCALAR_1);
+    }
+
+    /**
+     * Zeroes the player's movement speed and jump strength.
+     */
+    public void freeze(Player player) {
+        for (Attribute attribute : FROZEN_ATTRIBUTES) {
+            AttributeInstance instance = player.getAttribute(attribute);
+            if (instance != null && instance.getModifier(modifierKey) == null) {
+                instance.addTransientModifier(modifier);
+            }
+        }
+    }
+
+    /**
+     * Restores the player's movement speed and jump strength.
+     * Safe to call for players that were never frozen.
+     */
+    public void unfreeze(Player player) {
+        for (Attribute attribute : FROZEN_ATTRIBUTES) {
+            AttributeInstance instance = player.getAttribute(attribute);
+            if (instance != null) {
+                instance.removeModifier(modifierKey);
+            }
+        }
+    }
+}
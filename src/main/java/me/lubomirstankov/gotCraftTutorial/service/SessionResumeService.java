@@ -0,0 +1,164 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.model.SessionSnapshot;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialSession;
+import me.lubomirstankov.gotCraftTutorial.storage.CachedTutorialStorage;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Keeps the position of sessions interrupted by a quit or a restart, so they can be resumed
+ * within the configured window instead of starting over. Snapshots are cached in memory and
+ * persisted through the {@link CachedTutorialStorage}; stored snapshots are loaded on startup
+ * and a player's is read again on join, so a session interrupted on one server of a network
+ * resumes on another. Snapshots that are given up, e.g. because the window passed, are claimed
+ * in storage first, so exactly one server reports each of them to the discard handler.
+ */
+public class SessionResumeService {
+    private static final long SWEEP_INTERVAL_TICKS = 200L;
+
+    private final Plugin plugin;
+    private final ConfigManager configManager;
+    private final CachedTutorialStorage storage;
+    private final Consumer<SessionSnapshot> discarded;
+    private final Map<UUID, SessionSnapshot> suspended;
+    private ScheduledTask sweepTask;
+
+    /**
+     * @param discarded Called on the global region with each given-up snapshot this server claimed
+     */
+    public SessionResumeService(Plugin plugin, ConfigManager configManager, CachedTutorialStorage storage, Consumer<SessionSnapshot> discarded) {
+        this.plugin = plugin;
+        this.configManager = configManager;
+        this.storage = storage;
+        this.discarded = discarded;
+        this.suspended = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts the expiry sweep and loads stored snapshots in the background, so sessions
+     * interrupted by the restart are given up even if their player never returns.
+     */
+    public void load() {
+        if (sweepTask == null) {
+            sweepTask = Schedulers.runGlobalTimer(plugin, this::expire, SWEEP_INTERVAL_TICKS, SWEEP_INTERVAL_TICKS);
+        }
+
+        storage.loadSessions().whenComplete((snapshots, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "Failed to load saved sessions", error);
+            } else {
+                // Snapshots taken or replaced since startup are newer
+                snapshots.forEach(suspended::putIfAbsent);
+            }
+        });
+    }
+
+    /**
+     * Saves the position of a session that is being interrupted.
+     */
+    public void suspend(TutorialSession session) {
+        SessionSnapshot snapshot = SessionSnapshot.of(session, System.currentTimeMillis());
+        suspended.put(snapshot.playerId(), snapshot);
+        storage.saveSession(snapshot);
+    }
+
+    /**
+     * Saves the position of many sessions, e.g. every running one on plugin disable.
+     * They are written together with the storage's final flush.
+     */
+    public void suspendAll(Collection<TutorialSession> sessions) {
+        long now = System.currentTimeMillis();
+        for (TutorialSession session : sessions) {
+            SessionSnapshot snapshot = SessionSnapshot.of(session, now);
+            suspended.put(snapshot.playerId(), snapshot);
+            storage.saveSession(snapshot);
+        }
+    }
+
+    /**
+     * Replaces a player's cached snapshot with the one read from storage on join.
+     * @param snapshot Stored snapshot, or null if storage has none, e.g. because another server resumed it
+     */
+    public void replace(UUID playerId, SessionSnapshot snapshot) {
+        if (snapshot == null) {
+            suspended.remove(playerId);
+        } else {
+            suspended.put(playerId, snapshot);
+        }
+    }
+
+    /**
+     * Removes and returns a player's snapshot. The caller either resumes it with
+     * {@link #resumed(SessionSnapshot)} or gives it up with {@link #discard(SessionSnapshot)}.
+     * @return Snapshot, or null if there is none
+     */
+    public SessionSnapshot take(UUID playerId) {
+        return suspended.remove(playerId);
+    }
+
+    /**
+     * Checks whether a snapshot is older than the resume window.
+     */
+    public boolean isExpired(SessionSnapshot snapshot) {
+        return System.currentTimeMillis() - snapshot.savedAt() > configManager.getSnapshot().getResumeWindowMillis();
+    }
+
+    /**
+     * Removes a taken snapshot from storage once its session runs again.
+     */
+    public void resumed(SessionSnapshot snapshot) {
+        storage.removeSession(snapshot.playerId());
+    }
+
+    /**
+     * Gives up a taken snapshot. It is reported to the discard handler if this server claims it.
+     */
+    public void discard(SessionSnapshot snapshot) {
+        storage.claimSession(snapshot).whenComplete((claimed, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "Failed to discard the saved session of " + snapshot.playerId(), error);
+            } else if (claimed && plugin.isEnabled()) {
+                Schedulers.runGlobal(plugin, () -> discarded.accept(snapshot));
+            }
+        });
+    }
+
+    /**
+     * Gives up every cached snapshot older than the resume window.
+     */
+    private void expire() {
+        for (SessionSnapshot snapshot : suspended.values()) {
+            // Skips snapshots replaced or taken since the iteration saw them
+            if (isExpired(snapshot) && suspended.remove(snapshot.playerId(), snapshot)) {
+                discard(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Stops the expiry sweep. Pending writes are flushed when the storage is closed.
+     */
+    public void shutdown() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+    }
+
+    /**
+     * Gets the number of sessions waiting to be resumed.
+     */
+    public int size() {
+        return suspended.size();
+    }
+}
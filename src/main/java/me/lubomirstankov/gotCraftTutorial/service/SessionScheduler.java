@@ -0,0 +1,74 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialSession;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Fires each session's next step once its delay has elapsed.
+ * The callback always runs on the thread that owns the session's player.
+ */
+public interface SessionScheduler {
+
+    /**
+     * Creates the scheduler suited to the running server: a single timing wheel on Paper,
+     * per-player entity tasks on Folia.
+     * @param plugin Owning plugin
+     * @param onDue Called when a session's delay has elapsed
+     */
+    static SessionScheduler create(GotCraftTutorial plugin, Consumer<TutorialSession> onDue) {
+        return Schedulers.isFolia() ? new EntitySessionScheduler(plugin, onDue) : new TimingWheelScheduler(plugin, onDue);
+    }
+
+    /**
+     * Starts driving scheduled sessions.
+     */
+    void start();
+
+    /**
+     * Stops driving sessions and drops every schedule.
+     */
+    void stop();
+
+    /**
+     * Schedules a session to fire after the given delay, replacing any earlier schedule.
+     * @param session Session to advance
+     * @param delayTicks Delay in ticks (at least one tick)
+     */
+    void schedule(TutorialSession session, long delayTicks);
+
+    /**
+     * Cancels the scheduled step for a player, if any.
+     * @param playerId Player UUID
+     * @return true if a schedule was removed
+     */
+    boolean cancel(UUID playerId);
+
+    /**
+     * Drops every scheduled session.
+     */
+    void clear();
+
+    /**
+     * Gets the number of sessions with a pending step.
+     */
+    int size();
+
+    /**
+     * Gets how many sessions fired on the most recent tick that fired any.
+     */
+    int getLastTickFired();
+
+    /**
+     * Gets the highest number of sessions that fired on a single tick.
+     */
+    int getPeakTickFired();
+
+    /**
+     * Gets the total number of sessions fired since the scheduler started.
+     */
+    long getTotalFired();
+}
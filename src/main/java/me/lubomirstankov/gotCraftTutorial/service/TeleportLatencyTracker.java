@@ -0,0 +1,65 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import java.util.Arrays;
+
+/**
+ * Records how long step teleports take to complete, per step index.
+ * Teleports complete on whichever thread owns the player, so access is synchronized.
+ */
+public class TeleportLatencyTracker {
+    private long[] counts = new long[0];
+    private long[] totalNanos = new long[0];
+    private long[] maxNanos = new long[0];
+
+    /**
+     * Records a completed teleport.
+     * @param stepIndex Step the player was teleported to
+     * @param nanos Time from request to completion
+     */
+    public synchronized void record(int stepIndex, long nanos) {
+        if (stepIndex >= counts.length) {
+            int size = stepIndex + 1;
+            counts = Arrays.copyOf(counts, size);
+            totalNanos = Arrays.copyOf(totalNanos, size);
+            maxNanos = Arrays.copyOf(maxNanos, size);
+        }
+
+        counts[stepIndex]++;
+        totalNanos[stepIndex] += nanos;
+        maxNanos[stepIndex] = Math.max(maxNanos[stepIndex], nanos);
+    }
+
+    /**
+     * Gets the number of steps with recorded teleports.
+     */
+    public synchronized int getStepCount() {
+        return counts.length;
+    }
+
+    public synchronized long getCount(int stepIndex) {
+        return counts[stepIndex];
+    }
+
+    /**
+     * Gets the average teleport time for a step in milliseconds.
+     */
+    public synchronized double getAverageMillis(int stepIndex) {
+        return counts[stepIndex] == 0 ? 0.0 : totalNanos[stepIndex] / (double) counts[stepIndex] / 1_000_000.0;
+    }
+
+    /**
+     * Gets the slowest teleport for a step in milliseconds.
+     */
+    public synchronized double getMaxMillis(int stepIndex) {
+        return maxNanos[stepIndex] / 1_000_000.0;
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public synchronized void reset() {
+        counts = new long[0];
+        totalNanos = new long[0];
+        maxNanos = new long[0];
+    }
+}
@@ -0,0 +1,183 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialSession;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Drives all tutorial sessions from a single repeating task.
+ * Sessions are kept in a hashed timing wheel keyed by their due tick, so scheduling,
+ * cancelling and firing are O(1) and no task or lambda is created per step.
+ * Used on Paper, where every player is ticked on the main thread; all methods must be
+ * called from the main thread.
+ */
+public class TimingWheelScheduler implements SessionScheduler {
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final GotCraftTutorial plugin;
+    private final Consumer<TutorialSession> onDue;
+    private final Node[] wheel;
+    private final Map<UUID, Node> nodes;
+    private final List<TutorialSession> due;
+    private ScheduledTask driver;
+    private long currentTick;
+    private int lastTickFired;
+    private int peakTickFired;
+    private long totalFired;
+
+    /**
+     * @param plugin Owning plugin
+     * @param onDue Called on the main thread when a session's delay has elapsed
+     */
+    public TimingWheelScheduler(GotCraftTutorial plugin, Consumer<TutorialSession> onDue) {
+        this.plugin = plugin;
+        this.onDue = onDue;
+        this.wheel = new Node[WHEEL_SIZE];
+        this.nodes = new HashMap<>();
+        this.due = new ArrayList<>();
+    }
+
+    @Override
+    public void start() {
+        if (driver == null) {
+            driver = Schedulers.runGlobalTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+        clear();
+    }
+
+    @Override
+    public void schedule(TutorialSession session, long delayTicks) {
+        Node node = nodes.computeIfAbsent(session.getPlayer().getUniqueId(), key -> new Node());
+        if (node.linked) {
+            unlink(node);
+        }
+
+        node.session = session;
+        node.dueTick = currentTick + Math.max(1L, delayTicks);
+        link(node);
+    }
+
+    @Override
+    public boolean cancel(UUID playerId) {
+        Node node = nodes.remove(playerId);
+        if (node == null) {
+            return false;
+        }
+
+        if (node.linked) {
+            unlink(node);
+        }
+        node.session = null;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(wheel, null);
+        nodes.clear();
+        due.clear();
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public int getLastTickFired() {
+        return lastTickFired;
+    }
+
+    @Override
+    public int getPeakTickFired() {
+        return peakTickFired;
+    }
+
+    @Override
+    public long getTotalFired() {
+        return totalFired;
+    }
+
+    private void tick() {
+        currentTick++;
+
+        // Collect first so callbacks can freely reschedule or cancel
+        Node node = wheel[(int) (currentTick & WHEEL_MASK)];
+        while (node != null) {
+            Node next = node.next;
+            if (node.dueTick <= currentTick) {
+                unlink(node);
+                due.add(node.session);
+            }
+            node = next;
+        }
+
+        int fired = due.size();
+        lastTickFired = fired;
+        if (fired == 0) {
+            return;
+        }
+
+        peakTickFired = Math.max(peakTickFired, fired);
+        totalFired += fired;
+        for (int i = 0; i < fired; i++) {
+            onDue.accept(due.get(i));
+        }
+        due.clear();
+    }
+
+    private void link(Node node) {
+        int slot = (int) (node.dueTick & WHEEL_MASK);
+        Node head = wheel[slot];
+        node.prev = null;
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        }
+        wheel[slot] = node;
+        node.linked = true;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            wheel[(int) (node.dueTick & WHEEL_MASK)] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+    }
+
+    /**
+     * Wheel entry, reused for every step of a session.
+     */
+    private static final class Node {
+        private TutorialSession session;
+        private long dueTick;
+        private boolean linked;
+        private Node prev;
+        private Node next;
+    }
+}
@@ -0,0 +1,261 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import me.lubomirstankov.gotCraftTutorial.event.TutorialCompleteEvent;
+import me.lubomirstankov.gotCraftTutorial.event.TutorialListener;
+import me.lubomirstankov.gotCraftTutorial.event.TutorialStartEvent;
+import me.lubomirstankov.gotCraftTutorial.event.TutorialStepChangeEvent;
+import me.lubomirstankov.gotCraftTutorial.event.TutorialStopEvent;
+import me.lubomirstankov.gotCraftTutorial.metrics.TutorialMetrics;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.PluginManager;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fires the tutorial lifecycle events and notifies directly registered {@link TutorialListener}s.
+ * Events are skipped entirely when nothing listens: a {@link HandlerList} keeps its baked
+ * listener array until a listener registers or unregisters, so the check is a field read
+ * and follows runtime changes. Direct listeners live in a copy-on-write array, so
+ * notifying them allocates nothing unless a listener is delivered on an executor.
+ */
+public class TutorialEventDispatcher {
+    private static final Registration[] NO_LISTENERS = new Registration[0];
+
+    private final PluginManager pluginManager;
+    private final TutorialMetrics metrics;
+    private final Logger logger;
+    private final Object registrationLock = new Object();
+    private volatile Registration[] listeners = NO_LISTENERS;
+
+    public TutorialEventDispatcher(PluginManager pluginManager, TutorialMetrics metrics, Logger logger) {
+        this.pluginManager = pluginManager;
+        this.metrics = metrics;
+        this.logger = logger;
+    }
+
+    /**
+     * Registers a direct listener.
+     * @param listener Listener to notify
+     * @param executor Executor to deliver on, or null to call it on the thread driving the session
+     */
+    public void register(TutorialListener listener, Executor executor) {
+        synchronized (registrationLock) {
+            Registration[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+            updated[listeners.length] = new Registration(listener, executor);
+            listeners = updated;
+        }
+    }
+
+    /**
+     * Removes every registration of a direct listener.
+     * @return true if the listener was registered
+     */
+    public boolean unregister(TutorialListener listener) {
+        synchronized (registrationLock) {
+            Registration[] kept = Arrays.stream(listeners)
+                .filter(registration -> registration.listener() != listener)
+                .toArray(Registration[]::new);
+            boolean removed = kept.length != listeners.length;
+            listeners = kept.length == 0 ? NO_LISTENERS : kept;
+            return removed;
+        }
+    }
+
+    /**
+     * Fires {@link TutorialStartEvent}.
+     * @return The dispatched event, or null if nothing listens (so nothing can cancel it)
+     */
+    public TutorialStartEvent fireStart(Player player) {
+        if (!hasListeners(TutorialStartEvent.getHandlerList())) {
+            return null;
+        }
+        TutorialStartEvent event = new TutorialStartEvent(player);
+        dispatch(event);
+        return event;
+    }
+
+    /**
+     * Notifies direct listeners that a session has started. There is no matching Bukkit event,
+     * since {@link TutorialStartEvent} fires before the start can still be cancelled.
+     */
+    public void fireStarted(UUID playerId, String tutorialId, int totalSteps) {
+        for (Registration registration : listeners) {
+            TutorialListener listener = registration.listener();
+            if (registration.executor() == null) {
+                try {
+                    listener.onStart(playerId, tutorialId, totalSteps);
+                } catch (RuntimeException e) {
+                    logFailure(listener, e);
+                }
+            } else {
+                deliver(registration, () -> listener.onStart(playerId, tutorialId, totalSteps));
+            }
+        }
+    }
+
+    public void fireStepChange(Player player, long startTime, int previousStep, int newStep, int totalSteps, Location newLocation) {
+        if (hasListeners(TutorialStepChangeEvent.getHandlerList())) {
+            dispatch(new TutorialStepChangeEvent(player, previousStep, newStep, totalSteps, newLocation));
+        }
+
+        Registration[] current = listeners;
+        if (current.length == 0) {
+            return;
+        }
+        UUID playerId = player.getUniqueId();
+        long elapsed = System.currentTimeMillis() - startTime;
+        for (Registration registration : current) {
+            TutorialListener listener = registration.listener();
+            if (registration.executor() == null) {
+                try {
+                    listener.onStepChange(playerId, previousStep, newStep, totalSteps, elapsed);
+                } catch (RuntimeException e) {
+                    logFailure(listener, e);
+                }
+            } else {
+                deliver(registration, () -> listener.onStepChange(playerId, previousStep, newStep, totalSteps, elapsed));
+            }
+        }
+    }
+
+    public void fireStop(Player player, long startTime, int currentStep, int totalSteps) {
+        if (hasListeners(TutorialStopEvent.getHandlerList())) {
+            dispatch(new TutorialStopEvent(player, startTime, currentStep, totalSteps));
+        }
+
+        Registration[] current = listeners;
+        if (current.length == 0) {
+            return;
+        }
+        UUID playerId = player.getUniqueId();
+        long elapsed = System.currentTimeMillis() - startTime;
+        for (Registration registration : current) {
+            TutorialListener listener = registration.listener();
+            if (registration.executor() == null) {
+                try {
+                    listener.onStop(playerId, currentStep, totalSteps, elapsed);
+                } catch (RuntimeException e) {
+                    logFailure(listener, e);
+                }
+            } else {
+                deliver(registration, () -> listener.onStop(playerId, currentStep, totalSteps, elapsed));
+            }
+        }
+    }
+
+    public void fireComplete(Player player, long startTime, int stepsCompleted) {
+        if (hasListeners(TutorialCompleteEvent.getHandlerList())) {
+            dispatch(new TutorialCompleteEvent(player, startTime, stepsCompleted));
+        }
+
+        Registration[] current = listeners;
+        if (current.length == 0) {
+            return;
+        }
+        UUID playerId = player.getUniqueId();
+        long elapsed = System.currentTimeMillis() - startTime;
+        for (Registration registration : current) {
+            TutorialListener listener = registration.listener();
+            if (registration.executor() == null) {
+                try {
+                    listener.onComplete(playerId, stepsCompleted, elapsed);
+                } catch (RuntimeException e) {
+                    logFailure(listener, e);
+                }
+            } else {
+                deliver(registration, () -> listener.onComplete(playerId, stepsCompleted, elapsed));
+            }
+        }
+    }
+
+    /**
+     * Notifies direct listeners that a session was interrupted and saved.
+     * There is no Bukkit event, since the session has not ended.
+     */
+    public void fireSuspended(UUID playerId, int currentStep, int totalSteps, long elapsedMillis) {
+        notifyListeners(listener -> listener.onSuspend(playerId, currentStep, totalSteps, elapsedMillis));
+    }
+
+    /**
+     * Notifies direct listeners that an interrupted session resumed.
+     */
+    public void fireResumed(UUID playerId, String tutorialId, int currentStep, int totalSteps, long elapsedMillis) {
+        notifyListeners(listener -> listener.onResume(playerId, tutorialId, currentStep, totalSteps, elapsedMillis));
+    }
+
+    /**
+     * Notifies direct listeners that an interrupted session was given up. There is no Bukkit
+     * event, since {@link TutorialStopEvent} needs an online player.
+     */
+    public void fireDiscarded(UUID playerId, String tutorialId, int savedStep, long elapsedMillis) {
+        notifyListeners(listener -> listener.onDiscard(playerId, tutorialId, savedStep, elapsedMillis));
+    }
+
+    /**
+     * Gets the number of registered direct listeners.
+     */
+    public int getListenerCount() {
+        return listeners.length;
+    }
+
+    /**
+     * Checks whether any listener is registered, without allocating.
+     */
+    static boolean hasListeners(HandlerList handlers) {
+        return handlers.getRegisteredListeners().length > 0;
+    }
+
+    /**
+     * Notifies every direct listener, for the rare lifecycle changes that need no allocation-free path.
+     */
+    private void notifyListeners(Consumer<TutorialListener> notification) {
+        for (Registration registration : listeners) {
+            TutorialListener listener = registration.listener();
+            if (registration.executor() == null) {
+                try {
+                    notification.accept(listener);
+                } catch (RuntimeException e) {
+                    logFailure(listener, e);
+                }
+            } else {
+                deliver(registration, () -> notification.accept(listener));
+            }
+        }
+    }
+
+    private void dispatch(Event event) {
+        long start = System.nanoTime();
+        pluginManager.callEvent(event);
+        metrics.recordEventDispatch(start);
+    }
+
+    private void deliver(Registration registration, Runnable notification) {
+        try {
+            registration.executor().execute(() -> {
+                try {
+                    notification.run();
+                } catch (RuntimeException e) {
+                    logFailure(registration.listener(), e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Executor rejected the task, e.g. because its owner shut it down
+            logFailure(registration.listener(), e);
+        }
+    }
+
+    private void logFailure(TutorialListener listener, RuntimeException e) {
+        logger.log(Level.WARNING, "Tutorial listener " + listener.getClass().getName() + " failed", e);
+    }
+
+    private record Registration(TutorialListener listener, Executor executor) {
+    }
+}
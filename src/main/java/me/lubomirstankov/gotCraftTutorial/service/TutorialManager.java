@@ -2,58 +2,299 @@ package me.lubomirstankov.gotCraftTutorial.service;
 
 import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
 import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
-import me.lubomirstankov.gotCraftTutorial.event.TutorialCompleteEvent;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigSnapshot;
+import me.lubomirstankov.gotCraftTutorial.config.FreezeMode;
+import me.lubomirstankov.gotCraftTutorial.config.MessageRegistry;
+import me.lubomirstankov.gotCraftTutorial.event.TutorialListener;
 import me.lubomirstankov.gotCraftTutorial.event.TutorialStartEvent;
-import me.lubomirstankov.gotCraftTutorial.event.TutorialStepChangeEvent;
-import me.lubomirstankov.gotCraftTutorial.event.TutorialStopEvent;
+import me.lubomirstankov.gotCraftTutorial.metrics.AnalyticsRecorder;
+import me.lubomirstankov.gotCraftTutorial.metrics.TutorialMetrics;
+import me.lubomirstankov.gotCraftTutorial.model.CameraPath;
+import me.lubomirstankov.gotCraftTutorial.model.SessionSnapshot;
+import me.lubomirstankov.gotCraftTutorial.model.TutorialDefinition;
 import me.lubomirstankov.gotCraftTutorial.model.TutorialSession;
 import me.lubomirstankov.gotCraftTutorial.model.TutorialStep;
+import me.lubomirstankov.gotCraftTutorial.storage.CachedTutorialStorage;
+import me.lubomirstankov.gotCraftTutorial.storage.IoExecutor;
+import me.lubomirstankov.gotCraftTutorial.storage.JdbcTutorialStorage;
+import me.lubomirstankov.gotCraftTutorial.storage.MemoryTutorialStorage;
+import me.lubomirstankov.gotCraftTutorial.storage.TutorialStorage;
+import me.lubomirstankov.gotCraftTutorial.util.CommandNameSet;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.title.Title;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandMap;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
-import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 
 /**
  * Manages tutorial sessions for players.
+ * Each session is only driven from the thread that owns its player: the main thread on Paper,
+ * the player's region thread on Folia. Shared tables are concurrent or guarded by their owners.
  */
 public class TutorialManager {
+    private static final long STORAGE_CLOSE_SECONDS = 5L;
+
     private final GotCraftTutorial plugin;
     private final ConfigManager configManager;
     private final Map<UUID, TutorialSession> activeSessions;
-    private final Map<UUID, Long> cooldowns;
-    private final Map<UUID, BukkitTask> activeTasks;
-    private List<TutorialStep> tutorialSteps;
-
-    public TutorialManager(GotCraftTutorial plugin, ConfigManager configManager) {
+    private final Set<UUID> loadingPlayers;
+    private final CachedTutorialStorage storage;
+    private final CooldownService cooldowns;
+    private final SessionResumeService resumes;
+    private final SessionScheduler scheduler;
+    private final ChunkPreloader chunkPreloader;
+    private final CameraPathCache cameraPaths;
+    private final CameraDriver camera;
+    private final TeleportLatencyTracker teleportLatency;
+    private final PlayerFreezeService freezeService;
+    private final CommandDispatchQueue commandQueue;
+    private final AdmissionController admission;
+    private final TutorialMetrics metrics;
+    private final TutorialEventDispatcher events;
+    private final AnalyticsRecorder analytics;
+    private final TutorialRegistry registry;
+    private final AtomicLong definitionVersions;
+    private volatile CommandNameSet allowedCommands;
+
+    public TutorialManager(GotCraftTutorial plugin, ConfigManager configManager, IoExecutor io) {
         this.plugin = plugin;
         this.configManager = configManager;
         this.activeSessions = new ConcurrentHashMap<>();
-        this.cooldowns = new ConcurrentHashMap<>();
-        this.activeTasks = new ConcurrentHashMap<>();
+        this.loadingPlayers = ConcurrentHashMap.newKeySet();
+        this.storage = new CachedTutorialStorage(plugin, plugin.getLogger(), createStorage(io), configManager.getSnapshot().getStorageFlushTicks());
+        this.cooldowns = new CooldownService(plugin, storage);
+        this.resumes = new SessionResumeService(plugin, configManager, storage, this::discardSession);
+        this.scheduler = SessionScheduler.create(plugin, this::advance);
+        this.chunkPreloader = new ChunkPreloader(plugin);
+        this.cameraPaths = new CameraPathCache(plugin);
+        this.camera = new CameraDriver(plugin, this::teleportToStep);
+        this.teleportLatency = new TeleportLatencyTracker();
+        this.freezeService = new PlayerFreezeService(plugin);
+        this.commandQueue = new CommandDispatchQueue(plugin, configManager);
+        this.metrics = new TutorialMetrics(activeSessions::size);
+        this.events = new TutorialEventDispatcher(Bukkit.getPluginManager(), metrics, plugin.getLogger());
+        this.analytics = createAnalytics(io);
+        this.admission = new AdmissionController(plugin, configManager, activeSessions::size,
+            this::startQueuedTutorial, this::resumeQueuedTutorial);
+        this.definitionVersions = new AtomicLong();
+        this.registry = new TutorialRegistry(this::compileTutorial);
+        this.allowedCommands = CommandNameSet.of(configManager.getSnapshot().getAllowedCommands());
         loadTutorialSteps();
+        scheduler.start();
+        storage.start();
+        cooldowns.load();
+        resumes.load();
+        metrics.register(plugin.getLogger());
+        if (analytics != null) {
+            events.register(analytics, null);
+            analytics.start();
+        }
+
+        // Aliases resolve once every plugin has registered its commands
+        Schedulers.runGlobal(plugin, this::loadAllowedCommands);
+
+        // Players already online after a reload never get a join event
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            loadPlayer(player);
+        }
+    }
+
+    /**
+     * Creates the storage backend selected in config. Falls back to memory
+     * when the embedded database driver is not available.
+     */
+    private TutorialStorage createStorage(IoExecutor io) {
+        ConfigSnapshot settings = configManager.getSnapshot();
+        switch (settings.getStorageType().toLowerCase(Locale.ROOT)) {
+            case "memory":
+                return new MemoryTutorialStorage();
+            case "jdbc":
+                return new JdbcTutorialStorage("jdbc", settings.getStorageJdbcUrl(), io, plugin.getLogger());
+            default:
+                try {
+                    Class.forName("org.sqlite.JDBC");
+                } catch (ClassNotFoundException e) {
+                    plugin.getLogger().warning("SQLite driver not found, tutorial progress is kept in memory only");
+                    return new MemoryTutorialStorage();
+                }
+                String url = "jdbc:sqlite:" + plugin.getDataFolder().toPath().resolve("tutorial.db").toAbsolutePath();
+                return new JdbcTutorialStorage("sqlite", url, io, plugin.getLogger());
+        }
     }
 
     /**
-     * Loads tutorial steps from configuration.
+     * Creates the analytics recorder if analytics are enabled in config.
+     */
+    private AnalyticsRecorder createAnalytics(IoExecutor io) {
+        ConfigSnapshot settings = configManager.getSnapshot();
+        if (!settings.isAnalyticsEnabled()) {
+            return null;
+        }
+        return new AnalyticsRecorder(plugin, io, plugin.getDataFolder().toPath().resolve("analytics"),
+            settings.getAnalyticsBufferSize(), settings.getAnalyticsMaxFileBytes(), settings.getAnalyticsMaxFiles());
+    }
+
+    /**
+     * Re-indexes the configured tutorials. Each one is compiled again on first use;
+     * running sessions keep the definition they started with.
      */
     public void loadTutorialSteps() {
-        tutorialSteps = new ArrayList<>();
-        Map<Integer, Location> points = configManager.getTutorialPoints();
+        cameraPaths.clear();
+        registry.reset(configManager.getTutorialIds());
+    }
+
+    /**
+     * Compiles the commands allowed during a session, together with every label the command
+     * map knows them by: aliases and namespaced labels. Names the command map does not know
+     * are kept as written. Reads the command map, so it runs on the global region.
+     */
+    public void loadAllowedCommands() {
+        List<String> configured = configManager.getSnapshot().getAllowedCommands();
+        CommandMap commandMap = Bukkit.getCommandMap();
+
+        Set<Command> resolved = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String name : configured) {
+            Command command = commandMap.getCommand(name.trim().replaceFirst("^/+", ""));
+            if (command != null) {
+                resolved.add(command);
+            }
+        }
+
+        List<String> labels = new ArrayList<>(configured);
+        for (Map.Entry<String, Command> entry : commandMap.getKnownCommands().entrySet()) {
+            if (resolved.contains(entry.getValue())) {
+                labels.add(entry.getKey());
+            }
+        }
+        allowedCommands = CommandNameSet.of(labels);
+    }
+
+    /**
+     * Checks whether a chat command may be used during a session.
+     * @param message Command as typed, e.g. {@code "/tutorial stop"}
+     */
+    public boolean isCommandAllowed(String message) {
+        return allowedCommands.matchesCommand(message);
+    }
+
+    /**
+     * Gets the number of labels allowed during a session, aliases included.
+     */
+    public int getAllowedCommandCount() {
+        return allowedCommands.size();
+    }
+
+    /**
+     * Loads every step of a tutorial from configuration and pre-renders their titles and MOTD.
+     */
+    private TutorialDefinition compileTutorial(String tutorialId) {
+        List<TutorialStep> steps = new ArrayList<>();
+        Map<Integer, Location> points = configManager.getTutorialPoints(tutorialId);
 
         List<Integer> sortedKeys = new ArrayList<>(points.keySet());
         Collections.sort(sortedKeys);
 
-        for (Integer stepNumber : sortedKeys) {
-            List<String> motdLines = configManager.getMotdLinesForPoint(stepNumber);
-            tutorialSteps.add(new TutorialStep(stepNumber, points.get(stepNumber), motdLines));
+        for (int i = 0; i < sortedKeys.size(); i++) {
+            int stepNumber = sortedKeys.get(i);
+            List<String> motdLines = configManager.getMotdLinesForPoint(tutorialId, stepNumber);
+            steps.add(compileStep(tutorialId, stepNumber, points.get(stepNumber), motdLines, i, sortedKeys.size()));
+        }
+
+        TutorialDefinition definition = TutorialDefinition.of(tutorialId, definitionVersions.incrementAndGet(), steps);
+        precomputeCameraPath(definition);
+        return definition;
+    }
+
+    /**
+     * Starts computing the camera keyframes of a definition in the background.
+     * Flights are capped at the step delay so a flight always ends before the next step.
+     */
+    private void precomputeCameraPath(TutorialDefinition definition) {
+        ConfigSnapshot settings = configManager.getSnapshot();
+        if (settings.isCameraEnabled() && cameraPaths.get(definition) == null) {
+            cameraPaths.precompute(definition, (int) Math.min(settings.getCameraTransitionTicks(), settings.getStepDelay()));
+        }
+    }
+
+    /**
+     * Re-reads a single point of the default tutorial. See {@link #updateStep(String, int)}.
+     */
+    public void updateStep(int stepNumber) {
+        updateStep(ConfigManager.DEFAULT_TUTORIAL, stepNumber);
+    }
+
+    /**
+     * Re-reads a single point from configuration and publishes an updated definition.
+     * Only that step is recompiled; an insert or removal also rebuilds the step titles,
+     * since they show the step position and total.
+     * @param tutorialId Tutorial that was edited
+     * @param stepNumber Point number that was edited
+     */
+    public void updateStep(String tutorialId, int stepNumber) {
+        registry.register(tutorialId);
+        registry.update(tutorialId, current -> {
+            int index = current.indexOf(stepNumber);
+            Location location = configManager.getTutorialPoint(tutorialId, stepNumber);
+
+            if (location == null) {
+                return index < 0 ? current : retitle(current.withoutStep(index));
+            }
+
+            List<String> motdLines = configManager.getMotdLinesForPoint(tutorialId, stepNumber);
+            if (index >= 0) {
+                return current.withStep(index, compileStep(tutorialId, stepNumber, location, motdLines, index, current.size()));
+            }
+            return retitle(current.withInsertedStep(compileStep(tutorialId, stepNumber, location, motdLines, 0, current.size() + 1)));
+        });
+
+        TutorialDefinition updated = registry.getIfLoaded(tutorialId);
+        if (updated != null) {
+            precomputeCameraPath(updated);
+        }
+    }
+
+    /**
+     * Rebuilds every step title of a tutorial, e.g. after its title changed.
+     */
+    public void refreshTitles(String tutorialId) {
+        registry.register(tutorialId);
+        registry.update(tutorialId, this::retitle);
+    }
+
+    private TutorialDefinition retitle(TutorialDefinition target) {
+        int total = target.size();
+        return target.mapSteps((step, index) -> step.withTitle(buildTitle(target.getId(), index, total)));
+    }
+
+    /**
+     * Builds a step with its final title, subtitle and MOTD components.
+     */
+    private TutorialStep compileStep(String tutorialId, int stepNumber, Location location, List<String> motdLines, int index, int total) {
+        List<Component> motd = new ArrayList<>();
+        for (String line : motdLines) {
+            if (line != null && !line.isEmpty()) {
+                motd.add(MessageRegistry.parse(line));
+            }
         }
+
+        return new TutorialStep(stepNumber, location, List.copyOf(motdLines), buildTitle(tutorialId, index, total), List.copyOf(motd));
+    }
+
+    /**
+     * Builds the title shown at a step position.
+     */
+    private Title buildTitle(String tutorialId, int index, int total) {
+        return TutorialStep.buildTitle(configManager.getTutorialTitle(tutorialId), configManager.getSubtitleFormat(tutorialId), index, total);
     }
 
     /**
@@ -67,71 +308,141 @@ public class TutorialManager {
      * Checks if a player is on cooldown.
      */
     public boolean isOnCooldown(Player player) {
-        Long cooldownEnd = cooldowns.get(player.getUniqueId());
-        if (cooldownEnd == null) {
-            return false;
-        }
-
-        if (System.currentTimeMillis() >= cooldownEnd) {
-            cooldowns.remove(player.getUniqueId());
-            return false;
-        }
-
-        return true;
+        return cooldowns.isOnCooldown(player.getUniqueId());
     }
 
     /**
      * Gets remaining cooldown time in seconds.
      */
     public long getRemainingCooldown(Player player) {
-        Long cooldownEnd = cooldowns.get(player.getUniqueId());
-        if (cooldownEnd == null) {
-            return 0;
-        }
+        return cooldowns.getRemainingSeconds(player.getUniqueId());
+    }
+
+    /**
+     * Reads a player's stored cooldown, completions and interrupted session in the background,
+     * e.g. on join, since another server of the network may have changed them. Once read, the
+     * caches are updated on the player's thread and an interrupted session is resumed.
+     */
+    public void loadPlayer(Player player) {
+        UUID playerId = player.getUniqueId();
+        loadingPlayers.add(playerId);
+        storage.loadPlayer(playerId).whenComplete((record, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "Failed to load tutorial progress of " + player.getName(), error);
+            }
+            if (!plugin.isEnabled()) {
+                loadingPlayers.remove(playerId);
+                return;
+            }
+
+            Schedulers.runForEntity(plugin, player, () -> {
+                loadingPlayers.remove(playerId);
+                if (record != null) {
+                    cooldowns.refresh(playerId, record.cooldownExpiresAt());
+                    resumes.replace(playerId, record.session());
+                }
+                resumeTutorial(player);
+            }, () -> unloadPlayer(player));
+        });
+    }
 
-        long remaining = (cooldownEnd - System.currentTimeMillis()) / 1000;
-        return Math.max(0, remaining);
+    /**
+     * Forgets the cached state of a player who left.
+     */
+    public void unloadPlayer(Player player) {
+        loadingPlayers.remove(player.getUniqueId());
+        storage.evict(player.getUniqueId());
     }
 
     /**
-     * Starts a tutorial session for a player.
+     * Starts the default tutorial for a player.
      */
     public boolean startTutorial(Player player) {
+        return startTutorial(player, ConfigManager.DEFAULT_TUTORIAL);
+    }
+
+    /**
+     * Starts a tutorial session for a player, or queues the player if the
+     * session limits are reached.
+     * @param tutorialId Id of the tutorial to run
+     */
+    public boolean startTutorial(Player player, String tutorialId) {
+        return startTutorial(player, tutorialId, false);
+    }
+
+    /**
+     * Starts the tutorial of a player leaving the admission queue.
+     */
+    private void startQueuedTutorial(Player player, String tutorialId) {
+        startTutorial(player, tutorialId, true);
+    }
+
+    private boolean startTutorial(Player player, String tutorialId, boolean admitted) {
+        long startNanos = System.nanoTime();
         if (hasActiveSession(player)) {
-            player.sendMessage(Component.text(configManager.getMessage("tutorial-already-active")));
+            player.sendMessage(configManager.getMessage("tutorial-already-active"));
+            return false;
+        }
+
+        UUID playerId = player.getUniqueId();
+        if (admission.isQueued(playerId)) {
+            player.sendMessage(configManager.getMessage("tutorial-already-queued", "position", String.valueOf(admission.getPosition(playerId))));
+            return false;
+        }
+
+        // Stored cooldowns are still loading, so the cooldown check cannot be trusted yet
+        if (!cooldowns.isLoaded() || loadingPlayers.contains(playerId)) {
+            player.sendMessage(configManager.getMessage("tutorial-loading"));
             return false;
         }
 
         if (isOnCooldown(player)) {
             long remaining = getRemainingCooldown(player);
-            Map<String, String> placeholders = new HashMap<>();
-            placeholders.put("time", configManager.formatTime(remaining));
-            player.sendMessage(Component.text(configManager.getMessage("tutorial-on-cooldown", placeholders)));
+            player.sendMessage(configManager.getMessage("tutorial-on-cooldown", "time", configManager.formatTime(remaining)));
             return false;
         }
 
-        if (tutorialSteps.isEmpty()) {
-            player.sendMessage(Component.text(configManager.getMessage("tutorial-no-points")));
+        TutorialDefinition tutorial = registry.get(tutorialId);
+        if (tutorial == null) {
+            player.sendMessage(configManager.getMessage("tutorial-unknown", "id", tutorialId));
             return false;
         }
 
-        // Fire TutorialStartEvent - allow other plugins to cancel
-        TutorialStartEvent startEvent = new TutorialStartEvent(player);
-        Bukkit.getPluginManager().callEvent(startEvent);
+        if (tutorial.isEmpty()) {
+            player.sendMessage(configManager.getMessage("tutorial-no-points"));
+            return false;
+        }
 
-        if (startEvent.isCancelled()) {
+        // Wait in line once the concurrent or per-tick limit is reached
+        if (!admitted && !admission.tryAdmit()) {
+            int position = admission.enqueue(playerId, tutorialId);
+            metrics.recordQueued();
+            player.sendMessage(configManager.getMessage("tutorial-queued", "position", String.valueOf(position)));
+            return false;
+        }
+
+        // Fire TutorialStartEvent - allow other plugins to cancel
+        TutorialStartEvent startEvent = events.fireStart(player);
+        if (startEvent != null && startEvent.isCancelled()) {
             if (startEvent.getCancellationMessage() != null) {
                 player.sendMessage(Component.text(startEvent.getCancellationMessage()));
             }
             return false;
         }
 
-        TutorialSession session = new TutorialSession(player);
+        TutorialSession session = new TutorialSession(player, tutorial);
         activeSessions.put(player.getUniqueId(), session);
 
-        player.sendMessage(Component.text(configManager.getMessage("tutorial-starting")));
+        ConfigSnapshot settings = configManager.getSnapshot();
+        if (settings.shouldFreezePlayers() && settings.getFreezeMode() == FreezeMode.ATTRIBUTE) {
+            freezeService.freeze(player);
+        }
+
+        player.sendMessage(configManager.getMessage("tutorial-starting"));
+        events.fireStarted(player.getUniqueId(), tutorial.getId(), tutorial.size());
         showStep(session, 0);
 
+        metrics.recordStart(startNanos);
         return true;
     }
 
@@ -139,43 +450,169 @@ public class TutorialManager {
      * Stops a tutorial session for a player.
      */
     public boolean stopTutorial(Player player) {
+        long startNanos = System.nanoTime();
         TutorialSession session = activeSessions.remove(player.getUniqueId());
 
         if (session == null) {
-            player.sendMessage(Component.text(configManager.getMessage("tutorial-not-active")));
+            // Leaving the resume queue gives up the interrupted session
+            if (admission.isResumeQueued(player.getUniqueId()) && leaveQueue(player)) {
+                SessionSnapshot snapshot = resumes.take(player.getUniqueId());
+                if (snapshot != null) {
+                    resumes.discard(snapshot);
+                }
+                player.sendMessage(configManager.getMessage("tutorial-queue-left"));
+                return true;
+            }
+            if (leaveQueue(player)) {
+                player.sendMessage(configManager.getMessage("tutorial-queue-left"));
+                return true;
+            }
+            player.sendMessage(configManager.getMessage("tutorial-not-active"));
             return false;
         }
 
-        // Cancel any scheduled tasks
-        BukkitTask task = activeTasks.remove(player.getUniqueId());
-        if (task != null) {
-            task.cancel();
-        }
+        release(player);
 
         // Fire TutorialStopEvent
-        TutorialStopEvent stopEvent = new TutorialStopEvent(
-            player,
-            session.getStartTime(),
-            session.getCurrentStep(),
-            tutorialSteps.size()
-        );
-        Bukkit.getPluginManager().callEvent(stopEvent);
+        events.fireStop(player, session.getStartTime(), session.getCurrentStep(), session.getDefinition().size());
 
         // Set cooldown
-        int cooldownSeconds = configManager.getCooldown();
-        cooldowns.put(player.getUniqueId(), System.currentTimeMillis() + (cooldownSeconds * 1000L));
+        cooldowns.start(player.getUniqueId(), configManager.getSnapshot().getCooldownMillis());
 
-        player.sendMessage(Component.text(configManager.getMessage("tutorial-stopped")));
+        player.sendMessage(configManager.getMessage("tutorial-stopped"));
         player.clearTitle();
 
+        metrics.recordAbandon(session.getCurrentStep(), startNanos);
+        return true;
+    }
+
+    /**
+     * Interrupts a session without ending it, e.g. because the player quit. Its position is
+     * saved so the next join resumes it; no stop event, message or cooldown is produced, only
+     * direct listeners are told it was suspended.
+     * Stops the session instead when resuming is disabled.
+     * @return true if the player had a session
+     */
+    public boolean suspendTutorial(Player player) {
+        if (!configManager.getSnapshot().isResumeEnabled()) {
+            return stopTutorial(player);
+        }
+
+        TutorialSession session = activeSessions.remove(player.getUniqueId());
+        if (session == null) {
+            return false;
+        }
+
+        release(player);
+        resumes.suspend(session);
+        events.fireSuspended(player.getUniqueId(), session.getCurrentStep(), session.getDefinition().size(),
+            System.currentTimeMillis() - session.getStartTime());
         return true;
     }
 
+    /**
+     * Resumes a player's interrupted session at the step they were on, if it was saved within
+     * the resume window and the tutorial's steps have not changed since. A snapshot that cannot
+     * resume is given up and counted as an abandon at its saved step. Resumed sessions skip
+     * the cooldown check, since they were admitted before, but still respect the session
+     * limits: over them, the player waits in the admission queue ahead of new starts.
+     * @return true if a session was resumed
+     */
+    public boolean resumeTutorial(Player player) {
+        return resumeTutorial(player, false);
+    }
+
+    /**
+     * Resumes the session of a player leaving the admission queue.
+     */
+    private void resumeQueuedTutorial(Player player) {
+        resumeTutorial(player, true);
+    }
+
+    private boolean resumeTutorial(Player player, boolean admitted) {
+        if (hasActiveSession(player) || (!admitted && admission.isQueued(player.getUniqueId()))) {
+            return false;
+        }
+
+        SessionSnapshot snapshot = resumes.take(player.getUniqueId());
+        if (snapshot == null) {
+            return false;
+        }
+
+        // Snapshots that will not resume count as leaving the tutorial at the saved step
+        if (!configManager.getSnapshot().isResumeEnabled() || resumes.isExpired(snapshot)) {
+            resumes.discard(snapshot);
+            return false;
+        }
+
+        TutorialDefinition tutorial = registry.get(snapshot.tutorialId());
+        if (tutorial == null || tutorial.fingerprint() != snapshot.fingerprint() || snapshot.step() >= tutorial.size()) {
+            resumes.discard(snapshot);
+            player.sendMessage(configManager.getMessage("tutorial-resume-changed"));
+            return false;
+        }
+
+        // Wait in line once the concurrent or per-tick limit is reached, e.g. on a mass rejoin
+        if (!admitted && !admission.tryAdmitResume()) {
+            resumes.replace(player.getUniqueId(), snapshot);
+            int position = admission.enqueueResume(player.getUniqueId());
+            metrics.recordQueued();
+            player.sendMessage(configManager.getMessage("tutorial-queued", "position", String.valueOf(position)));
+            return false;
+        }
+
+        TutorialSession session = new TutorialSession(player, tutorial, System.currentTimeMillis() - snapshot.elapsedMillis());
+        session.setCurrentStep(snapshot.step());
+        activeSessions.put(player.getUniqueId(), session);
+        resumes.resumed(snapshot);
+        events.fireResumed(player.getUniqueId(), tutorial.getId(), snapshot.step(), tutorial.size(), snapshot.elapsedMillis());
+
+        ConfigSnapshot settings = configManager.getSnapshot();
+        if (settings.shouldFreezePlayers() && settings.getFreezeMode() == FreezeMode.ATTRIBUTE) {
+            freezeService.freeze(player);
+        }
+
+        player.sendMessage(configManager.getMessage("tutorial-resumed", Map.of(
+            "step", String.valueOf(snapshot.step() + 1),
+            "total", String.valueOf(tutorial.size())
+        )));
+        showStep(session, snapshot.step());
+        return true;
+    }
+
+    /**
+     * Reports a given-up snapshot as an abandon at its saved step. Runs on the global region.
+     */
+    private void discardSession(SessionSnapshot snapshot) {
+        long startNanos = System.nanoTime();
+        events.fireDiscarded(snapshot.playerId(), snapshot.tutorialId(), snapshot.step(), snapshot.elapsedMillis());
+        metrics.recordAbandon(snapshot.step(), startNanos);
+    }
+
+    /**
+     * Cancels the pending step, flight, preloads and freeze of a session that just ended.
+     */
+    private void release(Player player) {
+        scheduler.cancel(player.getUniqueId());
+        camera.cancel(player.getUniqueId());
+        chunkPreloader.release(player.getUniqueId());
+        freezeService.unfreeze(player);
+    }
+
+    /**
+     * Removes a player from the admission queue.
+     * @return true if the player was queued
+     */
+    public boolean leaveQueue(Player player) {
+        return admission.remove(player.getUniqueId());
+    }
+
     /**
      * Shows a specific tutorial step to the player.
      */
     private void showStep(TutorialSession session, int stepIndex) {
-        if (stepIndex < 0 || stepIndex >= tutorialSteps.size()) {
+        TutorialDefinition tutorial = session.getDefinition();
+        if (stepIndex < 0 || stepIndex >= tutorial.size()) {
             // Tutorial complete
             completeTutorial(session);
             return;
@@ -187,138 +624,168 @@ public class TutorialManager {
             return;
         }
 
+        long startNanos = System.nanoTime();
         int previousStep = session.getCurrentStep();
         session.setCurrentStep(stepIndex);
-        TutorialStep step = tutorialSteps.get(stepIndex);
+        TutorialStep step = tutorial.getStep(stepIndex);
 
         // Fire TutorialStepChangeEvent
-        TutorialStepChangeEvent stepChangeEvent = new TutorialStepChangeEvent(
-            player,
-            previousStep,
-            stepIndex,
-            tutorialSteps.size(),
-            step.getLocation()
-        );
-        Bukkit.getPluginManager().callEvent(stepChangeEvent);
-
-        // Teleport player
-        player.teleport(step.getLocation());
-
-        // Show title only on first step
-        if (stepIndex == 0) {
-            String titleText = configManager.getTutorialTitle();
-            String subtitleFormat = configManager.getSubtitleFormat();
-            String subtitle = subtitleFormat
-                .replace("{current}", String.valueOf(stepIndex + 1))
-                .replace("{total}", String.valueOf(tutorialSteps.size()))
-                .replace("&", "§");
-
-            Component titleComponent = Component.text(titleText.replace("&", "§")).decoration(TextDecoration.BOLD, true);
-            Component subtitleComponent = Component.text(subtitle);
-
-            Title title = Title.title(
-                titleComponent,
-                subtitleComponent,
-                Title.Times.times(Duration.ofMillis(500), Duration.ofSeconds(5), Duration.ofMillis(500))
-            );
-            player.showTitle(title);
+        events.fireStepChange(player, session.getStartTime(), previousStep, stepIndex, tutorial.size(), step.getLocation());
+
+        // Fly along the precomputed path when possible, otherwise jump straight to the step
+        if (!startCameraFlight(player, tutorial, stepIndex, step.getLocation())) {
+            teleportToStep(player, stepIndex, step.getLocation());
+        }
+
+        // Load the next step's chunks while the player is on this one
+        if (stepIndex + 1 < tutorial.size()) {
+            Location next = tutorial.getStep(stepIndex + 1).getLocation();
+            chunkPreloader.preload(player.getUniqueId(), next, configManager.getSnapshot().getPreloadRadius());
         } else {
-            // Show only subtitle for subsequent steps
-            String subtitleFormat = configManager.getSubtitleFormat();
-            String subtitle = subtitleFormat
-                .replace("{current}", String.valueOf(stepIndex + 1))
-                .replace("{total}", String.valueOf(tutorialSteps.size()))
-                .replace("&", "§");
-
-            Component subtitleComponent = Component.text(subtitle);
-
-            Title title = Title.title(
-                Component.empty(),
-                subtitleComponent,
-                Title.Times.times(Duration.ofMillis(500), Duration.ofSeconds(3), Duration.ofMillis(500))
-            );
-            player.showTitle(title);
-        }
-
-        // Show MOTD from step-specific configuration
-        List<String> motdLines = step.getMotdLines();
-        if (!motdLines.isEmpty()) {
-            // Hello MARU
-            for (String line : motdLines) {
-                if (line != null && !line.isEmpty()) {
-                    player.sendMessage(Component.text(line.replace("&", "§")));
-                }
-            }
+            chunkPreloader.release(player.getUniqueId());
+        }
+
+        // Title, subtitle and MOTD are pre-rendered when steps are loaded
+        player.showTitle(step.getTitle());
+        for (Component line : step.getMotd()) {
+            player.sendMessage(line);
         }
 
         // Schedule next step
-        long delay = configManager.getStepDelay();
-        BukkitTask task = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (hasActiveSession(player)) {
-                showStep(session, stepIndex + 1);
+        scheduler.schedule(session, configManager.getSnapshot().getStepDelay());
+        metrics.recordStep(startNanos);
+    }
+
+    /**
+     * Starts a camera flight from the previous step to a step.
+     * @return false if the player should be teleported instead
+     */
+    private boolean startCameraFlight(Player player, TutorialDefinition tutorial, int stepIndex, Location target) {
+        ConfigSnapshot settings = configManager.getSnapshot();
+        CameraPath path = stepIndex > 0 && settings.isCameraEnabled() ? cameraPaths.get(tutorial) : null;
+        if (path == null) {
+            // Drop any flight still heading for an earlier step
+            camera.cancel(player.getUniqueId());
+            return false;
+        }
+        return camera.start(player, path, stepIndex, target, settings.getMaxCameraMovements());
+    }
+
+    /**
+     * Teleports a player onto a step without blocking the main thread on a cold chunk.
+     */
+    private void teleportToStep(Player player, int stepIndex, Location location) {
+        long teleportStart = System.nanoTime();
+        player.teleportAsync(location).thenAccept(success -> {
+            if (success) {
+                long elapsed = System.nanoTime() - teleportStart;
+                teleportLatency.record(stepIndex, elapsed);
+                metrics.recordTeleport(elapsed);
             }
-        }, delay);
+        });
+    }
 
-        activeTasks.put(player.getUniqueId(), task);
+    /**
+     * Advances a session whose step delay has elapsed.
+     */
+    private void advance(TutorialSession session) {
+        // Ignore sessions that were stopped or replaced since they were scheduled
+        if (activeSessions.get(session.getPlayer().getUniqueId()) == session) {
+            showStep(session, session.getCurrentStep() + 1);
+        }
     }
 
     /**
      * Completes the tutorial for a player.
      */
     private void completeTutorial(TutorialSession session) {
+        long startNanos = System.nanoTime();
         Player player = session.getPlayer();
         activeSessions.remove(player.getUniqueId());
-        activeTasks.remove(player.getUniqueId());
+        release(player);
 
         // Fire TutorialCompleteEvent
-        TutorialCompleteEvent completeEvent = new TutorialCompleteEvent(
-            player,
-            session.getStartTime(),
-            tutorialSteps.size()
-        );
-        Bukkit.getPluginManager().callEvent(completeEvent);
-
-        player.sendMessage(Component.text(configManager.getMessage("tutorial-complete-title")));
-        player.sendMessage(Component.text(configManager.getMessage("tutorial-complete-subtitle")));
-
-        // Execute completion commands
-        List<String> completionCommands = configManager.getCompletionCommands();
-        if (!completionCommands.isEmpty()) {
-            for (String command : completionCommands) {
-                // Replace {player} placeholder with actual player name
-                String processedCommand = command.replace("{player}", player.getName());
-
-                // Execute command from console
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), processedCommand);
-                });
-            }
+        events.fireComplete(player, session.getStartTime(), session.getDefinition().size());
+
+        player.sendMessage(configManager.getMessage("tutorial-complete-title"));
+        player.sendMessage(configManager.getMessage("tutorial-complete-subtitle"));
+
+        // Queue completion commands, run from console under the per-tick budget
+        for (String command : configManager.getCompletionCommands()) {
+            // Replace {player} placeholder with actual player name
+            commandQueue.enqueue(command, command.replace("{player}", player.getName()));
         }
 
         // Set cooldown
-        int cooldownSeconds = configManager.getCooldown();
-        cooldowns.put(player.getUniqueId(), System.currentTimeMillis() + (cooldownSeconds * 1000L));
+        cooldowns.start(player.getUniqueId(), configManager.getSnapshot().getCooldownMillis());
+        storage.recordCompletion(player.getUniqueId());
 
         player.clearTitle();
+        metrics.recordCompletion(startNanos);
     }
 
     /**
      * Cleans up all active sessions (for plugin disable).
      */
     public void cleanup() {
+        if (configManager.getSnapshot().isResumeEnabled()) {
+            suspendAll();
+        }
+
         for (UUID uuid : new HashSet<>(activeSessions.keySet())) {
             Player player = Bukkit.getPlayer(uuid);
-            if (player != null) {
+            if (player == null) {
+                continue;
+            }
+            if (Bukkit.isOwnedByCurrentRegion(player)) {
                 stopTutorial(player);
+            } else {
+                // Folia disables plugins off the region threads; keep the cooldown,
+                // the transient freeze modifiers and titles do not outlive the session anyway
+                activeSessions.remove(uuid);
+                cooldowns.start(uuid, configManager.getSnapshot().getCooldownMillis());
             }
         }
 
-        for (BukkitTask task : activeTasks.values()) {
-            task.cancel();
+        admission.clear();
+        scheduler.stop();
+        camera.stop();
+        commandQueue.flush();
+        chunkPreloader.releaseAll();
+        activeSessions.clear();
+        cooldowns.shutdown();
+        resumes.shutdown();
+        if (analytics != null) {
+            events.unregister(analytics);
+            analytics.close();
         }
+        storage.close(STORAGE_CLOSE_SECONDS, TimeUnit.SECONDS);
+        metrics.unregister();
+    }
 
+    /**
+     * Saves every running session in the storage's final flush so it resumes after the restart,
+     * without the per-player stop events, messages and cooldowns of stopping them.
+     */
+    private void suspendAll() {
+        List<TutorialSession> sessions = new ArrayList<>(activeSessions.values());
         activeSessions.clear();
-        activeTasks.clear();
+
+        for (TutorialSession session : sessions) {
+            Player player = session.getPlayer();
+            // Folia disables plugins off the region threads; modifiers on players owned
+            // elsewhere are transient and do not survive the restart anyway
+            if (Bukkit.isOwnedByCurrentRegion(player)) {
+                freezeService.unfreeze(player);
+                player.clearTitle();
+            }
+        }
+        resumes.suspendAll(sessions);
+        long now = System.currentTimeMillis();
+        for (TutorialSession session : sessions) {
+            events.fireSuspended(session.getPlayer().getUniqueId(), session.getCurrentStep(), session.getDefinition().size(),
+                now - session.getStartTime());
+        }
     }
 
     /**
@@ -328,11 +795,148 @@ public class TutorialManager {
         return activeSessions.get(player.getUniqueId());
     }
 
+    /**
+     * Gets the cooldown cache.
+     */
+    public CooldownService getCooldowns() {
+        return cooldowns;
+    }
+
+    /**
+     * Gets the cached storage of cooldowns, completions and interrupted sessions.
+     */
+    public CachedTutorialStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Gets how many times a player completed a tutorial, across every server sharing the storage.
+     */
+    public int getCompletionCount(Player player) {
+        return storage.getCompletions(player.getUniqueId());
+    }
+
+    /**
+     * Gets the scheduler driving all session steps.
+     */
+    public SessionScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Gets the lifecycle metrics.
+     */
+    public TutorialMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the session admission limiter.
+     */
+    public AdmissionController getAdmission() {
+        return admission;
+    }
+
+    /**
+     * Gets the number of running sessions.
+     */
+    public int getActiveSessionCount() {
+        return activeSessions.size();
+    }
+
+    /**
+     * Gets the queue running completion commands.
+     */
+    public CommandDispatchQueue getCommandQueue() {
+        return commandQueue;
+    }
+
+    /**
+     * Gets the per-step teleport latency recorder.
+     */
+    public TeleportLatencyTracker getTeleportLatency() {
+        return teleportLatency;
+    }
+
+    /**
+     * Gets the number of interrupted sessions waiting to be resumed.
+     */
+    public int getSuspendedSessionCount() {
+        return resumes.size();
+    }
+
+    /**
+     * Gets the funnel analytics recorder.
+     * @return Recorder, or null if analytics are disabled
+     */
+    public AnalyticsRecorder getAnalytics() {
+        return analytics;
+    }
+
+    /**
+     * Gets the driver moving players along camera paths.
+     */
+    public CameraDriver getCamera() {
+        return camera;
+    }
+
+    /**
+     * Gets the number of tutorials with precomputed camera paths.
+     */
+    public int getCameraPathCount() {
+        return cameraPaths.size();
+    }
+
+    /**
+     * Gets the number of chunks pinned for upcoming steps.
+     */
+    public int getPreloadedChunkCount() {
+        return chunkPreloader.getPinnedChunks();
+    }
+
     /**
      * Gets the number of tutorial steps configured.
      */
     public int getStepCount() {
-        return tutorialSteps.size();
+        return getStepCount(ConfigManager.DEFAULT_TUTORIAL);
+    }
+
+    /**
+     * Gets the number of steps in a tutorial, compiling it if needed.
+     */
+    public int getStepCount(String tutorialId) {
+        TutorialDefinition tutorial = registry.get(tutorialId);
+        return tutorial != null ? tutorial.size() : 0;
+    }
+
+    /**
+     * Registers a direct progress listener, called on the thread driving each session.
+     */
+    public void registerListener(TutorialListener listener) {
+        events.register(listener, null);
+    }
+
+    /**
+     * Registers a direct progress listener delivered on an executor,
+     * for listeners that do I/O or other slow work.
+     */
+    public void registerListener(TutorialListener listener, Executor executor) {
+        events.register(listener, Objects.requireNonNull(executor, "executor"));
+    }
+
+    /**
+     * Unregisters a direct progress listener.
+     * @return true if the listener was registered
+     */
+    public boolean unregisterListener(TutorialListener listener) {
+        return events.unregister(listener);
+    }
+
+    /**
+     * Gets the registry of configured tutorials.
+     */
+    public TutorialRegistry getRegistry() {
+        return registry;
     }
 }
 
@@ -0,0 +1,102 @@
+package me.lubomirstankov.gotCraftTutorial.service;
+
+import me.lubomirstankov.gotCraftTutorial.model.TutorialDefinition;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Indexes every configured tutorial by id.
+ * Definitions are compiled lazily the first time a tutorial is used,
+ * and published per tutorial so edits to one never touch another.
+ */
+public class TutorialRegistry {
+    private final Function<String, TutorialDefinition> compiler;
+    private final Map<String, TutorialDefinition> definitions;
+    private volatile Set<String> ids;
+
+    /**
+     * @param compiler Loads and compiles a tutorial definition by id
+     */
+    public TutorialRegistry(Function<String, TutorialDefinition> compiler) {
+        this.compiler = compiler;
+        this.definitions = new ConcurrentHashMap<>();
+        this.ids = Set.of();
+    }
+
+    /**
+     * Replaces the known tutorial ids and drops every compiled definition.
+     * Running sessions keep the definitions they started with.
+     * @param tutorialIds Configured tutorial ids
+     */
+    public void reset(Set<String> tutorialIds) {
+        this.ids = Collections.unmodifiableSet(new LinkedHashSet<>(tutorialIds));
+        definitions.clear();
+    }
+
+    /**
+     * Registers a tutorial id created in-game.
+     */
+    public void register(String tutorialId) {
+        if (!ids.contains(tutorialId)) {
+            Set<String> updated = new LinkedHashSet<>(ids);
+            updated.add(tutorialId);
+            this.ids = Collections.unmodifiableSet(updated);
+        }
+    }
+
+    /**
+     * Checks whether a tutorial with the given id is configured.
+     */
+    public boolean exists(String tutorialId) {
+        return ids.contains(tutorialId);
+    }
+
+    /**
+     * Gets the ids of every configured tutorial.
+     */
+    public Set<String> getIds() {
+        return ids;
+    }
+
+    /**
+     * Gets a tutorial definition, compiling it on first use.
+     * @return Definition, or null if no tutorial has this id
+     */
+    public TutorialDefinition get(String tutorialId) {
+        if (!exists(tutorialId)) {
+            return null;
+        }
+        return definitions.computeIfAbsent(tutorialId, compiler);
+    }
+
+    /**
+     * Gets a tutorial definition only if it has already been compiled.
+     */
+    public TutorialDefinition getIfLoaded(String tutorialId) {
+        return definitions.get(tutorialId);
+    }
+
+    /**
+     * Applies an edit to a compiled definition and publishes the result.
+     * Does nothing if the tutorial has not been compiled yet, since it will be
+     * compiled from the edited config on first use anyway.
+     * @param tutorialId Tutorial id
+     * @param edit Produces the updated definition
+     */
+    public void update(String tutorialId, UnaryOperator<TutorialDefinition> edit) {
+        definitions.computeIfPresent(tutorialId, (id, current) -> edit.apply(current));
+    }
+
+    /**
+     * Gets the number of compiled definitions.
+     */
+    public int getLoadedCount() {
+        return definitions.size();
+    }
+}
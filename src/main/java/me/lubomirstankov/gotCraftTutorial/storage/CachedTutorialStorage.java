@@ -0,0 +1,235 @@
+package me.lubomirstankov.gotCraftTutorial.storage;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.lubomirstankov.gotCraftTutorial.model.SessionSnapshot;
+import me.lubomirstankov.gotCraftTutorial.util.Schedulers;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Read-through, write-behind cache in front of a {@link TutorialStorage}.
+ * Writes only record the change in the pending {@link WriteBatch}; a background task
+ * hands the batch to the backend every flush period, so a burst of changes crosses
+ * to the backend as one batch. Reads of a player go to the backend once, on join,
+ * with any changes not yet written laid on top. A batch that fails is folded back
+ * into the pending one and retried with the next flush.
+ */
+public class CachedTutorialStorage {
+    private final Plugin plugin;
+    private final Logger logger;
+    private final TutorialStorage backend;
+    private final long flushPeriodTicks;
+    private final Map<UUID, Integer> completions;
+    private final Deque<WriteBatch> inFlight;
+    private WriteBatch pending;
+    private ScheduledTask flushTask;
+    private long written;
+    private long failedFlushes;
+
+    /**
+     * @param plugin Owning plugin
+     * @param logger Logger for failed writes
+     * @param backend Backend the batches are written to
+     * @param flushPeriodTicks Ticks between two flushes
+     */
+    public CachedTutorialStorage(Plugin plugin, Logger logger, TutorialStorage backend, long flushPeriodTicks) {
+        this.plugin = plugin;
+        this.logger = logger;
+        this.backend = backend;
+        this.flushPeriodTicks = Math.max(1L, flushPeriodTicks);
+        this.completions = new ConcurrentHashMap<>();
+        this.inFlight = new ArrayDeque<>();
+        this.pending = new WriteBatch();
+    }
+
+    /**
+     * Starts the periodic flush.
+     */
+    public synchronized void start() {
+        if (flushTask == null) {
+            flushTask = Schedulers.runAsyncTimer(plugin, this::flush, flushPeriodTicks, flushPeriodTicks);
+        }
+    }
+
+    /**
+     * Loads every unexpired cooldown, e.g. on startup.
+     */
+    public CompletableFuture<Map<UUID, Long>> loadCooldowns() {
+        return backend.loadCooldowns();
+    }
+
+    /**
+     * Loads every stored interrupted session, e.g. on startup.
+     */
+    public CompletableFuture<Map<UUID, SessionSnapshot>> loadSessions() {
+        return backend.loadSessions();
+    }
+
+    /**
+     * Removes a given-up session, if it is still exactly the given snapshot, so only one caller
+     * across the network acts on it. A snapshot not written yet is dropped from the pending batch;
+     * otherwise the claim runs on the backend after any batch already handed to it.
+     * @return Future with true if this call removed it
+     */
+    public CompletableFuture<Boolean> claimSession(SessionSnapshot snapshot) {
+        synchronized (this) {
+            if (snapshot.equals(pending.getSessions().get(snapshot.playerId()))) {
+                pending.removeSession(snapshot.playerId());
+                return CompletableFuture.completedFuture(true);
+            }
+            return backend.claimSession(snapshot);
+        }
+    }
+
+    /**
+     * Reads a player's record from the backend, with changes not yet written on top.
+     * Also caches the player's completion count.
+     */
+    public CompletableFuture<PlayerRecord> loadPlayer(UUID playerId) {
+        return backend.loadPlayer(playerId).thenApply(stored -> {
+            PlayerRecord record;
+            synchronized (this) {
+                record = stored;
+                for (WriteBatch batch : inFlight) {
+                    record = batch.applyTo(record);
+                }
+                record = pending.applyTo(record);
+            }
+            completions.put(playerId, record.completions());
+            return record;
+        });
+    }
+
+    public synchronized void saveCooldown(UUID playerId, long expiresAt) {
+        pending.putCooldown(playerId, expiresAt);
+    }
+
+    public void recordCompletion(UUID playerId) {
+        completions.merge(playerId, 1, Integer::sum);
+        synchronized (this) {
+            pending.addCompletion(playerId);
+        }
+    }
+
+    public synchronized void saveSession(SessionSnapshot snapshot) {
+        pending.putSession(snapshot);
+    }
+
+    public synchronized void removeSession(UUID playerId) {
+        pending.removeSession(playerId);
+    }
+
+    /**
+     * Gets a player's completion count as of their last join plus completions since.
+     */
+    public int getCompletions(UUID playerId) {
+        return completions.getOrDefault(playerId, 0);
+    }
+
+    /**
+     * Forgets a player's cached completion count, e.g. when they leave.
+     */
+    public void evict(UUID playerId) {
+        completions.remove(playerId);
+    }
+
+    /**
+     * Hands the pending changes to the backend now.
+     * @return Future completed once the batch is written; never completes exceptionally
+     */
+    public CompletableFuture<Void> flush() {
+        WriteBatch batch;
+        CompletableFuture<Void> write;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            batch = pending;
+            pending = new WriteBatch();
+            inFlight.addLast(batch);
+            // Submitted under the lock, so batches reach the backend in order
+            write = backend.write(batch);
+        }
+
+        return write.handle((ignored, error) -> {
+            synchronized (this) {
+                inFlight.remove(batch);
+                if (error != null) {
+                    failedFlushes++;
+                    pending.mergeOlder(batch);
+                } else {
+                    written += batch.size();
+                }
+            }
+            if (error != null) {
+                logger.log(Level.WARNING, "Failed to write " + batch.size() + " changes to " + backend.getName() + ", retrying", error);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Stops the periodic flush, writes the pending changes in one batch and closes the backend.
+     * Blocks until the batch is written or the timeout elapses.
+     */
+    public void close(long timeout, TimeUnit unit) {
+        synchronized (this) {
+            if (flushTask != null) {
+                flushTask.cancel();
+                flushTask = null;
+            }
+        }
+
+        try {
+            flush().get(timeout, unit);
+            synchronized (this) {
+                if (!pending.isEmpty()) {
+                    logger.warning("Could not write " + pending.size() + " changes to " + backend.getName());
+                }
+            }
+        } catch (TimeoutException e) {
+            logger.warning("Timed out writing changes to " + backend.getName());
+        } catch (ExecutionException e) {
+            logger.log(Level.WARNING, "Failed to write changes to " + backend.getName(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        backend.close();
+    }
+
+    public String getBackendName() {
+        return backend.getName();
+    }
+
+    /**
+     * Gets the number of changes waiting for the next flush.
+     */
+    public synchronized int getPending() {
+        return pending.size();
+    }
+
+    /**
+     * Gets the number of changes written since startup.
+     */
+    public synchronized long getWritten() {
+        return written;
+    }
+
+    /**
+     * Gets how many flushes failed and were retried.
+     */
+    public synchronized long getFailedFlushes() {
+        return failedFlushes;
+    }
+}
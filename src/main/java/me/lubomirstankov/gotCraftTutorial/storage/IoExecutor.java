@@ -0,0 +1,198 @@
+package me.lubomirstankov.gotCraftTutorial.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The plugin's single executor for file and storage work. Every task gets its own
+ * virtual thread, so blocking I/O never holds a platform thread, and a semaphore bounds
+ * how many touch the disk at once. Callers get a {@link CompletableFuture} back and never
+ * wait on the filesystem themselves. {@link #serial()} hands out ordered lanes for stores
+ * that must see their writes one at a time.
+ */
+public class IoExecutor implements Executor {
+    private final ExecutorService threads;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Logger logger;
+    private final AtomicInteger waiting;
+
+    /**
+     * @param maxConcurrent Most tasks running at once
+     * @param logger Logger for failed tasks that nobody observes
+     */
+    public IoExecutor(int maxConcurrent, Logger logger) {
+        this.threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("GotCraftTutorial-IO-", 0).factory());
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.permits = new Semaphore(this.maxConcurrent, true);
+        this.logger = logger;
+        this.waiting = new AtomicInteger();
+    }
+
+    /**
+     * Runs a task once a permit is free.
+     * @throws RejectedExecutionException If the executor was shut down
+     */
+    @Override
+    public void execute(Runnable task) {
+        waiting.incrementAndGet();
+        threads.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                waiting.decrementAndGet();
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            waiting.decrementAndGet();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Computes a value on an I/O thread.
+     * @return Future completed with the value, or exceptionally with the I/O error
+     */
+    public <T> CompletableFuture<T> supply(IoCallable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (IOException e) {
+                throw new CompletionException(new UncheckedIOException(e));
+            }
+        }, this);
+    }
+
+    /**
+     * Runs an action on an I/O thread.
+     * @return Future completed once the action finished, or exceptionally with the I/O error
+     */
+    public CompletableFuture<Void> run(IoRunnable task) {
+        return supply(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Creates a lane that runs its tasks one at a time, in submission order, on this executor.
+     */
+    public Executor serial() {
+        return new SerialLane();
+    }
+
+    /**
+     * Gets the number of tasks holding a permit.
+     */
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Gets the number of tasks waiting for a permit.
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Stops accepting tasks and waits for the submitted ones to finish.
+     * @return false if tasks were still running when the timeout elapsed
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        threads.shutdown();
+        try {
+            return threads.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * A value computation that may fail with an I/O error.
+     */
+    @FunctionalInterface
+    public interface IoCallable<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * An action that may fail with an I/O error.
+     */
+    @FunctionalInterface
+    public interface IoRunnable {
+        void run() throws IOException;
+    }
+
+    /**
+     * Queues tasks and drains them from a single I/O task at a time.
+     */
+    private final class SerialLane implements Executor {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+            schedule();
+        }
+
+        private void schedule() {
+            if (tasks.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                IoExecutor.this.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                tasks.clear();
+                throw e;
+            }
+        }
+
+        private void drain() {
+            try {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        logger.log(Level.WARNING, "I/O task failed", e);
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // A task may have been queued between the last poll and releasing the lane
+            try {
+                schedule();
+            } catch (RejectedExecutionException e) {
+                logger.warning("Dropped I/O tasks queued after shutdown");
+            }
+        }
+    }
+}
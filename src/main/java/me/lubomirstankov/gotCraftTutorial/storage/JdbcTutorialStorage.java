@@ -0,0 +1,341 @@
+package me.lubomirstankov.gotCraftTutorial.storage;
+
+import me.lubomirstankov.gotCraftTutorial.model.SessionSnapshot;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Backend on a JDBC database: by default an embedded SQLite file, or any server database
+ * shared by the servers of a network. Uses one connection, confined to a serial lane of the
+ * plugin's {@link IoExecutor}, and only portable SQL: a change is an {@code UPDATE}, followed
+ * by an {@code INSERT} for the rows it did not find. Each batch is one transaction.
+ */
+public class JdbcTutorialStorage implements TutorialStorage {
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS tutorial_cooldowns (player_id CHAR(36) NOT NULL PRIMARY KEY, expires_at BIGINT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS tutorial_completions (player_id CHAR(36) NOT NULL PRIMARY KEY, completions INT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS tutorial_sessions (player_id CHAR(36) NOT NULL PRIMARY KEY, tutorial_id VARCHAR(64) NOT NULL, "
+            + "fingerprint BIGINT NOT NULL, step INT NOT NULL, elapsed_millis BIGINT NOT NULL, saved_at BIGINT NOT NULL)"
+    };
+
+    private final String name;
+    private final String url;
+    private final Logger logger;
+    private final Executor lane;
+
+    // Lane state
+    private Connection connection;
+
+    /**
+     * @param name Short name for status output
+     * @param url JDBC URL, including credentials if the database needs them
+     * @param io Executor the queries run on
+     * @param logger Logger for connection problems
+     */
+    public JdbcTutorialStorage(String name, String url, IoExecutor io, Logger logger) {
+        this.name = name;
+        this.url = url;
+        this.logger = logger;
+        this.lane = io.serial();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, Long>> loadCooldowns() {
+        return query(connection -> {
+            long now = System.currentTimeMillis();
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM tutorial_cooldowns WHERE expires_at <= ?")) {
+                delete.setLong(1, now);
+                delete.executeUpdate();
+            }
+
+            Map<UUID, Long> cooldowns = new HashMap<>();
+            try (Statement select = connection.createStatement();
+                 ResultSet rows = select.executeQuery("SELECT player_id, expires_at FROM tutorial_cooldowns")) {
+                while (rows.next()) {
+                    cooldowns.put(UUID.fromString(rows.getString(1)), rows.getLong(2));
+                }
+            }
+            return cooldowns;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, SessionSnapshot>> loadSessions() {
+        return query(connection -> {
+            Map<UUID, SessionSnapshot> sessions = new HashMap<>();
+            try (Statement select = connection.createStatement();
+                 ResultSet rows = select.executeQuery(
+                     "SELECT player_id, tutorial_id, fingerprint, step, elapsed_millis, saved_at FROM tutorial_sessions")) {
+                while (rows.next()) {
+                    UUID playerId = UUID.fromString(rows.getString(1));
+                    sessions.put(playerId, new SessionSnapshot(playerId, rows.getString(2), rows.getLong(3), rows.getInt(4), rows.getLong(5), rows.getLong(6)));
+                }
+            }
+            return sessions;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> claimSession(SessionSnapshot snapshot) {
+        return query(connection -> {
+            try (PreparedStatement delete = connection.prepareStatement(
+                "DELETE FROM tutorial_sessions WHERE player_id = ? AND saved_at = ? AND tutorial_id = ?")) {
+                delete.setString(1, snapshot.playerId().toString());
+                delete.setLong(2, snapshot.savedAt());
+                delete.setString(3, snapshot.tutorialId());
+                return delete.executeUpdate() > 0;
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<PlayerRecord> loadPlayer(UUID playerId) {
+        return query(connection -> {
+            String id = playerId.toString();
+            long cooldown = 0L;
+            int completions = 0;
+            SessionSnapshot session = null;
+
+            try (PreparedStatement select = connection.prepareStatement("SELECT expires_at FROM tutorial_cooldowns WHERE player_id = ?")) {
+                select.setString(1, id);
+                try (ResultSet rows = select.executeQuery()) {
+                    if (rows.next()) {
+                        cooldown = rows.getLong(1);
+                    }
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT completions FROM tutorial_completions WHERE player_id = ?")) {
+                select.setString(1, id);
+                try (ResultSet rows = select.executeQuery()) {
+                    if (rows.next()) {
+                        completions = rows.getInt(1);
+                    }
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement(
+                "SELECT tutorial_id, fingerprint, step, elapsed_millis, saved_at FROM tutorial_sessions WHERE player_id = ?")) {
+                select.setString(1, id);
+                try (ResultSet rows = select.executeQuery()) {
+                    if (rows.next()) {
+                        session = new SessionSnapshot(playerId, rows.getString(1), rows.getLong(2), rows.getInt(3), rows.getLong(4), rows.getLong(5));
+                    }
+                }
+            }
+            return new PlayerRecord(playerId, cooldown, completions, session);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> write(WriteBatch batch) {
+        return query(connection -> {
+            connection.setAutoCommit(false);
+            try {
+                writeCooldowns(connection, batch.getCooldowns());
+                writeCompletions(connection, batch.getCompletions());
+                deleteSessions(connection, batch);
+                writeSessions(connection, batch.getSessions());
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        CompletableFuture.runAsync(() -> {
+            if (connection == null) {
+                return;
+            }
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "Failed to close the " + name + " connection", e);
+            }
+            connection = null;
+        }, lane).join();
+    }
+
+    private void writeCooldowns(Connection connection, Map<UUID, Long> cooldowns) throws SQLException {
+        if (cooldowns.isEmpty()) {
+            return;
+        }
+
+        List<UUID> missing = new ArrayList<>();
+        try (PreparedStatement update = connection.prepareStatement("UPDATE tutorial_cooldowns SET expires_at = ? WHERE player_id = ?")) {
+            List<UUID> order = new ArrayList<>(cooldowns.keySet());
+            for (UUID playerId : order) {
+                update.setLong(1, cooldowns.get(playerId));
+                update.setString(2, playerId.toString());
+                update.addBatch();
+            }
+            collectMissing(update.executeBatch(), order, missing);
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO tutorial_cooldowns (player_id, expires_at) VALUES (?, ?)")) {
+            for (UUID playerId : missing) {
+                insert.setString(1, playerId.toString());
+                insert.setLong(2, cooldowns.get(playerId));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void writeCompletions(Connection connection, Map<UUID, Integer> completions) throws SQLException {
+        if (completions.isEmpty()) {
+            return;
+        }
+
+        List<UUID> missing = new ArrayList<>();
+        try (PreparedStatement update = connection.prepareStatement("UPDATE tutorial_completions SET completions = completions + ? WHERE player_id = ?")) {
+            List<UUID> order = new ArrayList<>(completions.keySet());
+            for (UUID playerId : order) {
+                update.setInt(1, completions.get(playerId));
+                update.setString(2, playerId.toString());
+                update.addBatch();
+            }
+            collectMissing(update.executeBatch(), order, missing);
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO tutorial_completions (player_id, completions) VALUES (?, ?)")) {
+            for (UUID playerId : missing) {
+                insert.setString(1, playerId.toString());
+                insert.setInt(2, completions.get(playerId));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void deleteSessions(Connection connection, WriteBatch batch) throws SQLException {
+        if (batch.getRemovedSessions().isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM tutorial_sessions WHERE player_id = ?")) {
+            for (UUID playerId : batch.getRemovedSessions()) {
+                delete.setString(1, playerId.toString());
+                delete.addBatch();
+            }
+            delete.executeBatch();
+        }
+    }
+
+    private void writeSessions(Connection connection, Map<UUID, SessionSnapshot> sessions) throws SQLException {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        List<UUID> missing = new ArrayList<>();
+        try (PreparedStatement update = connection.prepareStatement(
+            "UPDATE tutorial_sessions SET tutorial_id = ?, fingerprint = ?, step = ?, elapsed_millis = ?, saved_at = ? WHERE player_id = ?")) {
+            List<UUID> order = new ArrayList<>(sessions.keySet());
+            for (UUID playerId : order) {
+                SessionSnapshot snapshot = sessions.get(playerId);
+                update.setString(1, snapshot.tutorialId());
+                update.setLong(2, snapshot.fingerprint());
+                update.setInt(3, snapshot.step());
+                update.setLong(4, snapshot.elapsedMillis());
+                update.setLong(5, snapshot.savedAt());
+                update.setString(6, playerId.toString());
+                update.addBatch();
+            }
+            collectMissing(update.executeBatch(), order, missing);
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO tutorial_sessions (player_id, tutorial_id, fingerprint, step, elapsed_millis, saved_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (UUID playerId : missing) {
+                SessionSnapshot snapshot = sessions.get(playerId);
+                insert.setString(1, playerId.toString());
+                insert.setString(2, snapshot.tutorialId());
+                insert.setLong(3, snapshot.fingerprint());
+                insert.setInt(4, snapshot.step());
+                insert.setLong(5, snapshot.elapsedMillis());
+                insert.setLong(6, snapshot.savedAt());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * Collects the players whose update matched no row and still need an insert.
+     */
+    private static void collectMissing(int[] counts, List<UUID> order, List<UUID> missing) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                missing.add(order.get(i));
+            }
+        }
+    }
+
+    /**
+     * Runs a query on the lane, opening the connection and schema on first use.
+     * A failed query drops the connection, so the next one reconnects.
+     */
+    private <T> CompletableFuture<T> query(Query<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return query.run(connection());
+            } catch (SQLException e) {
+                closeQuietly();
+                throw new CompletionException(e);
+            }
+        }, lane);
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = DriverManager.getConnection(url);
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : SCHEMA) {
+                    statement.executeUpdate(ddl);
+                }
+            }
+        }
+        return connection;
+    }
+
+    private void closeQuietly() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // Already broken
+        }
+        connection = null;
+    }
+
+    @FunctionalInterface
+    private interface Query<T> {
+        T run(Connection connection) throws SQLException;
+    }
+}
@@ -0,0 +1,64 @@
+package me.lubomirstankov.gotCraftTutorial.storage;
+
+import me.lubomirstankov.gotCraftTutorial.model.SessionSnapshot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Backend that keeps everything in this JVM, so data resets on every restart.
+ * Also serves as an in-process stand-in for a shared database: several plugin
+ * instances given the same object, e.g. in the load simulator, see each other's writes.
+ */
+public class MemoryTutorialStorage implements TutorialStorage {
+    private final Map<UUID, Long> cooldowns = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> completions = new ConcurrentHashMap<>();
+    private final Map<UUID, SessionSnapshot> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, Long>> loadCooldowns() {
+        long now = System.currentTimeMillis();
+        cooldowns.values().removeIf(expiresAt -> expiresAt <= now);
+        return CompletableFuture.completedFuture(new HashMap<>(cooldowns));
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, SessionSnapshot>> loadSessions() {
+        return CompletableFuture.completedFuture(new HashMap<>(sessions));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> claimSession(SessionSnapshot snapshot) {
+        return CompletableFuture.completedFuture(sessions.remove(snapshot.playerId(), snapshot));
+    }
+
+    @Override
+    public CompletableFuture<PlayerRecord> loadPlayer(UUID playerId) {
+        return CompletableFuture.completedFuture(new PlayerRecord(playerId, cooldowns.getOrDefault(playerId, 0L),
+            completions.getOrDefault(playerId, 0), sessions.get(playerId)));
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> write(WriteBatch batch) {
+        cooldowns.putAll(batch.getCooldowns());
+        batch.getCompletions().forEach((playerId, count) -> completions.merge(playerId, count, Integer::sum));
+        for (UUID playerId : batch.getRemovedSessions()) {
+            sessions.remove(playerId);
+        }
+        sessions.putAll(batch.getSessions());
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+}
@@ -0,0 +1,22 @@
+package me.lubomirstankov.gotCraftTutorial.storage;
+
+import me.lubomirstankov.gotCraftTutorial.model.SessionSnapshot;
+
+import java.util.UUID;
+
+/**
+ * Everything stored about one player.
+ * @param playerId Player UUID
+ * @param cooldownExpiresAt Cooldown expiry in epoch millis, or 0 if none is stored
+ * @param completions Number of tutorials the player completed
+ * @param session Interrupted session waiting to be resumed, or null
+ */
+public record PlayerRecord(UUID playerId, long cooldownExpiresAt, int completions, SessionSnapshot session) {
+
+    /**
+     * Creates the record of a player with nothing stored.
+     */
+    public static PlayerRecord empty(UUID playerId) {
+        return new PlayerRecord(playerId, 0L, 0, null);
+    }
+}
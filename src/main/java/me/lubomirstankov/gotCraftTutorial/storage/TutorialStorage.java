@@ -0,0 +1,59 @@
+package me.lubomirstankov.gotCraftTutorial.storage;
+
+import me.lubomirstankov.gotCraftTutorial.model.SessionSnapshot;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Backend for the player data that must outlive a restart, or follow a player across
+ * the servers of a network: cooldowns, completion counts and interrupted sessions.
+ * Implementations must never block the caller; every method hands its work to a
+ * background thread and completes the returned future there. The plugin only talks
+ * to a backend through {@link CachedTutorialStorage}, which keeps lookups in memory
+ * and batches writes.
+ */
+public interface TutorialStorage {
+
+    /**
+     * Gets a short name for status output, e.g. {@code sqlite}.
+     */
+    String getName();
+
+    /**
+     * Loads every cooldown that has not expired yet.
+     * @return Future with expiry timestamps (epoch millis) by player
+     */
+    CompletableFuture<Map<UUID, Long>> loadCooldowns();
+
+    /**
+     * Loads every stored interrupted session, e.g. on startup.
+     * @return Future with the snapshots by player
+     */
+    CompletableFuture<Map<UUID, SessionSnapshot>> loadSessions();
+
+    /**
+     * Deletes a stored session if it is still exactly the given snapshot, bypassing any batching.
+     * Lets one server of a network, and only one, act on a snapshot that is given up.
+     * @return Future with true if this call deleted it
+     */
+    CompletableFuture<Boolean> claimSession(SessionSnapshot snapshot);
+
+    /**
+     * Loads everything stored about one player, e.g. when they join.
+     * @return Future with the player's record; empty if nothing is stored
+     */
+    CompletableFuture<PlayerRecord> loadPlayer(UUID playerId);
+
+    /**
+     * Applies a batch of changes, atomically where the backend supports it.
+     * @return Future completed once the changes are stored, or exceptionally if none were
+     */
+    CompletableFuture<Void> write(WriteBatch batch);
+
+    /**
+     * Releases the backend. Called after the last write has completed.
+     */
+    void close();
+}
@@ -0,0 +1,105 @@
+package me.lubomirstankov.gotCraftTutorial.storage;
+
+import me.lubomirstankov.gotCraftTutorial.model.SessionSnapshot;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Changes collected between two flushes of the {@link CachedTutorialStorage}.
+ * Repeated changes to the same player collapse: the latest cooldown and session win,
+ * completions add up, and a removal cancels a pending session write.
+ * Not thread-safe; the cache guards it.
+ */
+public final class WriteBatch {
+    private final Map<UUID, Long> cooldowns = new HashMap<>();
+    private final Map<UUID, Integer> completions = new HashMap<>();
+    private final Map<UUID, SessionSnapshot> sessions = new HashMap<>();
+    private final Set<UUID> removedSessions = new HashSet<>();
+
+    public void putCooldown(UUID playerId, long expiresAt) {
+        cooldowns.merge(playerId, expiresAt, Math::max);
+    }
+
+    public void addCompletion(UUID playerId) {
+        completions.merge(playerId, 1, Integer::sum);
+    }
+
+    public void putSession(SessionSnapshot snapshot) {
+        sessions.put(snapshot.playerId(), snapshot);
+        removedSessions.remove(snapshot.playerId());
+    }
+
+    public void removeSession(UUID playerId) {
+        sessions.remove(playerId);
+        removedSessions.add(playerId);
+    }
+
+    /**
+     * Folds in an older batch that could not be written, without overriding newer changes.
+     */
+    public void mergeOlder(WriteBatch older) {
+        older.cooldowns.forEach(this::putCooldown);
+        older.completions.forEach((playerId, count) -> completions.merge(playerId, count, Integer::sum));
+        older.sessions.forEach((playerId, snapshot) -> {
+            if (!sessions.containsKey(playerId) && !removedSessions.contains(playerId)) {
+                sessions.put(playerId, snapshot);
+            }
+        });
+        for (UUID playerId : older.removedSessions) {
+            if (!sessions.containsKey(playerId)) {
+                removedSessions.add(playerId);
+            }
+        }
+    }
+
+    /**
+     * Applies this batch's changes for one player on top of a stored record.
+     */
+    public PlayerRecord applyTo(PlayerRecord record) {
+        UUID playerId = record.playerId();
+        long cooldown = Math.max(record.cooldownExpiresAt(), cooldowns.getOrDefault(playerId, 0L));
+        int completed = record.completions() + completions.getOrDefault(playerId, 0);
+        SessionSnapshot session = record.session();
+        if (sessions.containsKey(playerId)) {
+            session = sessions.get(playerId);
+        } else if (removedSessions.contains(playerId)) {
+            session = null;
+        }
+        return new PlayerRecord(playerId, cooldown, completed, session);
+    }
+
+    public Map<UUID, Long> getCooldowns() {
+        return Collections.unmodifiableMap(cooldowns);
+    }
+
+    /**
+     * Gets the completions to add, by player.
+     */
+    public Map<UUID, Integer> getCompletions() {
+        return Collections.unmodifiableMap(completions);
+    }
+
+    public Map<UUID, SessionSnapshot> getSessions() {
+        return Collections.unmodifiableMap(sessions);
+    }
+
+    public Set<UUID> getRemovedSessions() {
+        return Collections.unmodifiableSet(removedSessions);
+    }
+
+    /**
+     * Gets the number of rows this batch touches.
+     */
+    public int size() {
+        return cooldowns.size() + completions.size() + sessions.size() + removedSessions.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,150 @@
+package me.lubomirstankov.gotCraftTutorial.util;
+
+import java.util.Collection;
+
+/**
+ * Immutable, case-insensitive set of command labels, matched against the first token of a
+ * chat command such as {@code "/Tutorial stop"}. The token is hashed and compared in place,
+ * so a lookup allocates nothing and costs one probe sequence however many labels are stored.
+ * Labels are stored lowercased, one char at a time, in an open-addressing table with linear probing.
+ */
+public final class CommandNameSet {
+    private static final CommandNameSet EMPTY = new CommandNameSet(new String[1], new int[1], 0);
+
+    private final String[] labels;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+
+    private CommandNameSet(String[] labels, int[] hashes, int size) {
+        this.labels = labels;
+        this.hashes = hashes;
+        this.mask = labels.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * Compiles a set of labels. Leading slashes and surrounding whitespace are ignored.
+     */
+    public static CommandNameSet of(Collection<String> names) {
+        if (names.isEmpty()) {
+            return EMPTY;
+        }
+
+        // At most half full, so probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(2, names.size() * 2) - 1) << 1;
+        String[] labels = new String[capacity];
+        int[] hashes = new int[capacity];
+        int mask = capacity - 1;
+        int size = 0;
+
+        for (String name : names) {
+            String label = normalize(name);
+            if (label.isEmpty()) {
+                continue;
+            }
+
+            int hash = hash(label, 0, label.length());
+            int slot = mix(hash) & mask;
+            while (labels[slot] != null && !labels[slot].equals(label)) {
+                slot = (slot + 1) & mask;
+            }
+            if (labels[slot] == null) {
+                labels[slot] = label;
+                hashes[slot] = hash;
+                size++;
+            }
+        }
+        return new CommandNameSet(labels, hashes, size);
+    }
+
+    /**
+     * Checks whether the first token of a chat command is in the set.
+     * @param message Command as typed, with or without the leading slash
+     */
+    public boolean matchesCommand(String message) {
+        if (size == 0) {
+            return false;
+        }
+
+        int start = !message.isEmpty() && message.charAt(0) == '/' ? 1 : 0;
+        int end = message.indexOf(' ', start);
+        if (end < 0) {
+            end = message.length();
+        }
+        return contains(message, start, end);
+    }
+
+    /**
+     * Checks whether a region of a string, compared case-insensitively, is in the set.
+     */
+    public boolean contains(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (size == 0 || length <= 0) {
+            return false;
+        }
+
+        int hash = hash(text, start, end);
+        int slot = mix(hash) & mask;
+        String label;
+        while ((label = labels[slot]) != null) {
+            if (hashes[slot] == hash && label.length() == length && regionEquals(label, text, start)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of labels.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static String normalize(String name) {
+        String label = name.trim();
+        while (label.startsWith("/")) {
+            label = label.substring(1);
+        }
+        int space = label.indexOf(' ');
+        if (space >= 0) {
+            label = label.substring(0, space);
+        }
+        // Folded the same way as looked-up tokens, char by char
+        StringBuilder folded = new StringBuilder(label.length());
+        for (int i = 0; i < label.length(); i++) {
+            folded.append(fold(label.charAt(i)));
+        }
+        return folded.toString();
+    }
+
+    private static boolean regionEquals(String label, CharSequence text, int start) {
+        for (int i = 0; i < label.length(); i++) {
+            if (label.charAt(i) != fold(text.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + fold(text.charAt(i));
+        }
+        return hash;
+    }
+
+    private static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,145 @@
+package me.lubomirstankov.gotCraftTutorial.util;
+
+import java.util.Arrays;
+
+/**
+ * Reclaims expired entries from a {@link UuidLongTable} whose values are expiry timestamps.
+ * Keys are filed into a ring of time buckets by their expiry; each sweep only visits the
+ * buckets whose time window has passed, so the cost is spread out instead of scanning the table.
+ * Entries further out than one ring rotation simply stay in their bucket for another round.
+ * Not thread-safe.
+ */
+public final class ExpirySweeper {
+    private static final int INITIAL_BUCKET_CAPACITY = 8;
+
+    private final long bucketMillis;
+    private final int mask;
+    private final long[][] bucketHigh;
+    private final long[][] bucketLow;
+    private final int[] bucketSizes;
+    private long nextBucket;
+
+    /**
+     * @param bucketMillis Width of each bucket in milliseconds
+     * @param bucketCount Number of buckets in the ring, a power of two
+     * @param now Current time in epoch millis
+     */
+    public ExpirySweeper(long bucketMillis, int bucketCount, long now) {
+        if (Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("Bucket count must be a power of two");
+        }
+
+        this.bucketMillis = bucketMillis;
+        this.mask = bucketCount - 1;
+        this.bucketHigh = new long[bucketCount][INITIAL_BUCKET_CAPACITY];
+        this.bucketLow = new long[bucketCount][INITIAL_BUCKET_CAPACITY];
+        this.bucketSizes = new int[bucketCount];
+        this.nextBucket = now / bucketMillis;
+    }
+
+    /**
+     * Files a key under its expiry time. Call whenever a key's expiry is set or changed.
+     * A key whose new expiry falls in the bucket it is already filed under is not filed again.
+     * @param high Most significant bits of the key
+     * @param low Least significant bits of the key
+     * @param previousExpiresAt Expiry the key was last tracked with, or 0 if it is new
+     * @param expiresAt Expiry timestamp in epoch millis
+     */
+    public void track(long high, long low, long previousExpiresAt, long expiresAt) {
+        int bucket = bucketOf(expiresAt);
+        if (previousExpiresAt != 0 && bucketOf(previousExpiresAt) == bucket) {
+            return;
+        }
+        int size = bucketSizes[bucket];
+        if (size == bucketHigh[bucket].length) {
+            bucketHigh[bucket] = Arrays.copyOf(bucketHigh[bucket], size << 1);
+            bucketLow[bucket] = Arrays.copyOf(bucketLow[bucket], size << 1);
+        }
+        bucketHigh[bucket][size] = high;
+        bucketLow[bucket][size] = low;
+        bucketSizes[bucket] = size + 1;
+    }
+
+    /**
+     * Removes expired entries from the table for every bucket whose window has passed.
+     * @param table Table holding expiry timestamps
+     * @param now Current time in epoch millis
+     * @return Number of entries removed
+     */
+    public int sweep(UuidLongTable table, long now) {
+        long current = now / bucketMillis;
+        // After a long pause, one full rotation covers every bucket
+        if (current - nextBucket > mask) {
+            nextBucket = current - mask;
+        }
+
+        int removed = 0;
+        while (nextBucket < current) {
+            removed += sweepBucket(table, (int) (nextBucket & mask), now);
+            nextBucket++;
+        }
+        return removed;
+    }
+
+    /**
+     * Drops every tracked key.
+     */
+    public void clear() {
+        for (int i = 0; i <= mask; i++) {
+            bucketHigh[i] = new long[INITIAL_BUCKET_CAPACITY];
+            bucketLow[i] = new long[INITIAL_BUCKET_CAPACITY];
+            bucketSizes[i] = 0;
+        }
+    }
+
+    /**
+     * Gets the approximate heap size of the bucket arrays in bytes.
+     */
+    public long memoryFootprint() {
+        long bytes = (long) Integer.BYTES * bucketSizes.length;
+        for (int i = 0; i <= mask; i++) {
+            bytes += 2L * Long.BYTES * bucketHigh[i].length;
+        }
+        return bytes;
+    }
+
+    private int sweepBucket(UuidLongTable table, int bucket, long now) {
+        long[] highs = bucketHigh[bucket];
+        long[] lows = bucketLow[bucket];
+        int size = bucketSizes[bucket];
+        int kept = 0;
+        int removed = 0;
+
+        for (int i = 0; i < size; i++) {
+            long expiresAt = table.get(highs[i], lows[i]);
+            if (expiresAt == 0) {
+                // Already removed elsewhere
+                continue;
+            }
+            if (expiresAt <= now) {
+                table.remove(highs[i], lows[i]);
+                removed++;
+                continue;
+            }
+            // Keep keys that still expire in this bucket on a later rotation;
+            // keys whose expiry moved were filed again under their new bucket
+            if (bucketOf(expiresAt) == bucket) {
+                highs[kept] = highs[i];
+                lows[kept] = lows[i];
+                kept++;
+            }
+        }
+
+        bucketSizes[bucket] = kept;
+        if (kept < highs.length >>> 2 && highs.length > INITIAL_BUCKET_CAPACITY) {
+            int capacity = Math.max(INITIAL_BUCKET_CAPACITY, highs.length >>> 1);
+            bucketHigh[bucket] = Arrays.copyOf(highs, capacity);
+            bucketLow[bucket] = Arrays.copyOf(lows, capacity);
+        }
+        return removed;
+    }
+
+    private int bucketOf(long expiresAt) {
+        return (int) ((expiresAt / bucketMillis) & mask);
+    }
+}
@@ -0,0 +1,97 @@
+package me.lubomirstankov.gotCraftTutorial.util;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules work through the region-aware schedulers, which Paper runs on the main
+ * thread and Folia runs on the thread owning the region or entity. Using them everywhere
+ * keeps one code path for both servers; the legacy {@code BukkitScheduler} is not
+ * available on Folia.
+ */
+public final class Schedulers {
+    private static final long MILLIS_PER_TICK = 50L;
+    private static final boolean FOLIA = classExists("io.papermc.paper.threadedregions.RegionizedServer");
+
+    private Schedulers() {
+    }
+
+    /**
+     * Checks whether the server runs regions on separate threads.
+     */
+    public static boolean isFolia() {
+        return FOLIA;
+    }
+
+    /**
+     * Runs a task repeatedly on the global region, which owns no players or chunks.
+     * @param delayTicks Ticks before the first run (at least one)
+     * @param periodTicks Ticks between runs
+     */
+    public static ScheduledTask runGlobalTimer(Plugin plugin, Runnable task, long delayTicks, long periodTicks) {
+        return Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduled -> task.run(), Math.max(1L, delayTicks), periodTicks);
+    }
+
+    /**
+     * Runs a task once on the global region, on the next tick.
+     */
+    public static ScheduledTask runGlobal(Plugin plugin, Runnable task) {
+        return Bukkit.getGlobalRegionScheduler().run(plugin, scheduled -> task.run());
+    }
+
+    /**
+     * Runs a task off every tick thread.
+     */
+    public static ScheduledTask runAsync(Plugin plugin, Runnable task) {
+        return Bukkit.getAsyncScheduler().runNow(plugin, scheduled -> task.run());
+    }
+
+    /**
+     * Runs a task off every tick thread after a delay given in ticks.
+     */
+    public static ScheduledTask runAsyncLater(Plugin plugin, Runnable task, long delayTicks) {
+        return Bukkit.getAsyncScheduler().runDelayed(plugin, scheduled -> task.run(), delayTicks * MILLIS_PER_TICK, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs a task repeatedly off every tick thread, with delay and period given in ticks.
+     */
+    public static ScheduledTask runAsyncTimer(Plugin plugin, Runnable task, long delayTicks, long periodTicks) {
+        return Bukkit.getAsyncScheduler().runAtFixedRate(plugin, scheduled -> task.run(),
+            Math.max(1L, delayTicks) * MILLIS_PER_TICK, periodTicks * MILLIS_PER_TICK, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs a task on the thread owning an entity: immediately if the caller already owns it
+     * (always the case on the Paper main thread), otherwise on the entity's next tick.
+     * The task is dropped if the entity is removed first, e.g. because the player left.
+     */
+    public static void runForEntity(Plugin plugin, Entity entity, Runnable task) {
+        runForEntity(plugin, entity, task, null);
+    }
+
+    /**
+     * Runs a task on the thread owning an entity, see {@link #runForEntity(Plugin, Entity, Runnable)}.
+     * @param retired Called instead of the task if the entity is removed first, or null
+     */
+    public static void runForEntity(Plugin plugin, Entity entity, Runnable task, Runnable retired) {
+        if (Bukkit.isOwnedByCurrentRegion(entity)) {
+            task.run();
+        } else if (entity.getScheduler().run(plugin, scheduled -> task.run(), retired) == null && retired != null) {
+            retired.run();
+        }
+    }
+
+    private static boolean classExists(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package me.lubomirstankov.gotCraftTutorial.util;
+
+import java.util.UUID;
+
+/**
+ * Open-addressing hash table from UUID to a long value, stored as three parallel
+ * primitive arrays with no per-entry objects or boxing.
+ * A value of 0 marks an empty slot, so 0 cannot be stored as a value.
+ * Uses linear probing with backward-shift deletion, so no tombstones build up.
+ * Not thread-safe.
+ */
+public final class UuidLongTable {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int minCapacity;
+    private long[] keysHigh;
+    private long[] keysLow;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * @param expectedSize Number of entries to size the table for up front
+     */
+    public UuidLongTable(int expectedSize) {
+        this.minCapacity = capacityFor(expectedSize);
+        allocate(minCapacity);
+    }
+
+    /**
+     * Gets the value for a key.
+     * @return Stored value, or 0 if absent
+     */
+    public long get(UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Gets the value for a key given as its two halves.
+     * @return Stored value, or 0 if absent
+     */
+    public long get(long high, long low) {
+        int slot = slot(high, low);
+        while (values[slot] != 0) {
+            if (keysHigh[slot] == high && keysLow[slot] == low) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Stores a value for a key.
+     * @param value Non-zero value
+     * @return Previous value, or 0 if absent
+     */
+    public long put(UUID key, long value) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /**
+     * Stores a value for a key given as its two halves.
+     * @param value Non-zero value
+     * @return Previous value, or 0 if absent
+     */
+    public long put(long high, long low, long value) {
+        if (value == 0) {
+            throw new IllegalArgumentException("0 is reserved for empty slots");
+        }
+
+        int slot = slot(high, low);
+        while (values[slot] != 0) {
+            if (keysHigh[slot] == high && keysLow[slot] == low) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keysHigh[slot] = high;
+        keysLow[slot] = low;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(values.length << 1);
+        }
+        return 0;
+    }
+
+    /**
+     * Removes a key.
+     * @return Removed value, or 0 if absent
+     */
+    public long remove(UUID key) {
+        return remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Removes a key given as its two halves.
+     * @return Removed value, or 0 if absent
+     */
+    public long remove(long high, long low) {
+        int slot = slot(high, low);
+        while (values[slot] != 0) {
+            if (keysHigh[slot] == high && keysLow[slot] == low) {
+                long removed = values[slot];
+                shiftBack(slot);
+                size--;
+                // Give memory back once the table is mostly empty
+                if (size < values.length >>> 3 && values.length > minCapacity) {
+                    rehash(values.length >>> 1);
+                }
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Removes every entry and shrinks back to the initial capacity.
+     */
+    public void clear() {
+        allocate(minCapacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Gets the approximate heap size of the backing arrays in bytes.
+     */
+    public long memoryFootprint() {
+        return 3L * Long.BYTES * values.length;
+    }
+
+    /**
+     * Closes the gap left at a removed slot by moving later probe-chain entries back.
+     */
+    private void shiftBack(int hole) {
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (values[slot] == 0) {
+                break;
+            }
+
+            int ideal = slot(keysHigh[slot], keysLow[slot]);
+            // Move the entry if the hole lies between its ideal slot and where it sits now
+            if (((slot - ideal) & mask) >= ((slot - hole) & mask)) {
+                keysHigh[hole] = keysHigh[slot];
+                keysLow[hole] = keysLow[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        keysHigh[hole] = 0;
+        keysLow[hole] = 0;
+        values[hole] = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldHigh = keysHigh;
+        long[] oldLow = keysLow;
+        long[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != 0) {
+                int slot = slot(oldHigh[i], oldLow[i]);
+                while (values[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keysHigh[slot] = oldHigh[i];
+                keysLow[slot] = oldLow[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keysHigh = new long[capacity];
+        keysLow = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long high, long low) {
+        // Murmur3 finalizer over both halves
+        long hash = high ^ Long.rotateLeft(low, 32);
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
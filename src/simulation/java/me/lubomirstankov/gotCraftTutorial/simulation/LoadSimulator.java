@@ -0,0 +1,188 @@
+package me.lubomirstankov.gotCraftTutorial.simulation;
+
+import me.lubomirstankov.gotCraftTutorial.GotCraftTutorial;
+import me.lubomirstankov.gotCraftTutorial.config.ConfigManager;
+import me.lubomirstankov.gotCraftTutorial.metrics.TutorialMetrics;
+import me.lubomirstankov.gotCraftTutorial.service.TutorialManager;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.mockbukkit.mockbukkit.world.WorldMock;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Runs the plugin on a mock server with thousands of fake players and reports
+ * what it costs per tick. Players type /tutorial spread over the arrival window,
+ * then send moves and blocked commands while in a session. Ticks are advanced
+ * by hand and all randomness is seeded, so runs are repeatable.
+ *
+ * <p>Tick time covers the generated traffic plus the scheduler tick, measured on the
+ * main thread, so it includes some mock server overhead. Allocation counts only the
+ * main thread; background writers are excluded.</p>
+ */
+public final class LoadSimulator {
+    private static final int WARMUP_TICK_LIMIT = 200;
+    private static final int DRAIN_TICKS = 200;
+
+    private LoadSimulator() {
+    }
+
+    public static void main(String[] args) {
+        SimulationOptions options = SimulationOptions.parse(args);
+        System.out.printf("%8s %8s %9s %9s %9s %9s %8s %11s %9s %9s %9s %9s%n",
+            "players", "ticks", "mean ms", "p50 ms", "p99 ms", "max ms", "over", "KiB/tick", "MiB/s",
+            "sessions", "sched", "cooldowns");
+
+        for (int players : options.playerCounts) {
+            Result result = run(options, players);
+            System.out.printf("%8d %8d %9.3f %9.3f %9.3f %9.3f %8d %11.1f %9.2f %9d %9d %9d%n",
+                players, result.ticks.size(),
+                result.ticks.meanMillis(), result.ticks.percentileMillis(50), result.ticks.percentileMillis(99),
+                result.ticks.maxMillis(), result.ticks.ticksOver(options.budgetMillis),
+                result.ticks.meanAllocatedBytes() / 1024.0, result.ticks.meanAllocatedBytes() * 20 / (1024.0 * 1024.0),
+                result.peakSessions, result.peakScheduled, result.peakCooldowns);
+            System.out.printf("         starts=%d completed=%d abandoned=%d peak-queue=%d peak-command-queue=%d peak-camera=%d%n",
+                result.starts, result.completions, result.abandons, result.peakQueued, result.peakCommandQueue, result.peakCamera);
+        }
+        System.out.printf("'over' counts ticks above the %.1f ms budget; MiB/s assumes 20 TPS%n", options.budgetMillis);
+    }
+
+    private static Result run(SimulationOptions options, int playerCount) {
+        ServerMock server = MockBukkit.mock();
+        try {
+            WorldMock world = server.addSimpleWorld("world");
+            GotCraftTutorial plugin = MockBukkit.load(GotCraftTutorial.class);
+            configure(plugin, world, options);
+
+            TutorialManager tutorialManager = plugin.getTutorialManager();
+            for (int i = 0; i < WARMUP_TICK_LIMIT && !tutorialManager.getCooldowns().isLoaded(); i++) {
+                server.getScheduler().performOneTick();
+            }
+
+            PlayerMock[] players = new PlayerMock[playerCount];
+            for (int i = 0; i < playerCount; i++) {
+                players[i] = server.addPlayer("sim" + i);
+                players[i].teleport(new Location(world, 0.5, 64.0, 0.5));
+            }
+
+            return simulate(server, tutorialManager, players, options);
+        } finally {
+            MockBukkit.unmock();
+        }
+    }
+
+    /**
+     * Applies the simulation settings the same way an admin edit followed by a reload would.
+     */
+    private static void configure(GotCraftTutorial plugin, WorldMock world, SimulationOptions options) {
+        FileConfiguration config = plugin.getConfig();
+        config.set("tutorial.step-delay-ticks", options.stepDelayTicks);
+        config.set("tutorial.freeze-mode", options.freezeMode);
+        config.set("tutorial.preload-radius", options.preloadRadius);
+        config.set("tutorial.admission.max-concurrent-sessions", options.maxConcurrentSessions);
+        config.set("tutorial.admission.max-starts-per-tick", options.maxStartsPerTick);
+        config.set("tutorial.camera.enabled", options.cameraTicks > 0);
+        config.set("tutorial.camera.transition-ticks", options.cameraTicks);
+        config.set("tutorial.camera.max-concurrent", options.maxCameraMovements);
+        plugin.saveConfig();
+
+        ConfigManager configManager = plugin.getConfigManager();
+        configManager.loadConfig();
+        for (int i = 0; i < options.points; i++) {
+            configManager.setTutorialPoint(i, new Location(world, i * 64 + 0.5, 64.0, 0.5));
+        }
+        configManager.flush();
+        configManager.loadConfig();
+        plugin.getTutorialManager().loadTutorialSteps();
+    }
+
+    private static Result simulate(ServerMock server, TutorialManager tutorialManager, PlayerMock[] players, SimulationOptions options) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Random random = new Random(options.seed);
+        TickRecorder ticks = new TickRecorder();
+        Result result = new Result(ticks);
+
+        int arrivalTicks = Math.max(1, options.arrivalTicks);
+        int lastTick = options.ticks > 0
+            ? options.ticks
+            : arrivalTicks + (int) (options.points * options.stepDelayTicks) + DRAIN_TICKS;
+        int nextArrival = 0;
+
+        for (int tick = 0; tick < lastTick; tick++) {
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+
+            // Arrivals spread evenly across the window
+            int arrivedBy = (int) Math.min(players.length, (long) players.length * (tick + 1) / arrivalTicks);
+            while (nextArrival < arrivedBy) {
+                players[nextArrival++].performCommand("tutorial");
+            }
+
+            for (int i = 0; i < nextArrival; i++) {
+                PlayerMock player = players[i];
+                if (!tutorialManager.hasActiveSession(player)) {
+                    continue;
+                }
+                if (random.nextDouble() < options.moveChance) {
+                    double distance = random.nextDouble() < options.walkChance ? 1.0 : 0.05;
+                    player.simulatePlayerMove(player.getLocation().add(distance, 0.0, 0.0));
+                }
+                if (random.nextDouble() < options.commandChance) {
+                    server.getPluginManager().callEvent(new PlayerCommandPreprocessEvent(player, "/spawn"));
+                }
+            }
+
+            server.getScheduler().performOneTick();
+
+            ticks.record(System.nanoTime() - start, threads.getCurrentThreadAllocatedBytes() - allocatedBefore);
+            result.sample(tutorialManager);
+
+            // Stop early once everyone has arrived and nothing is left running
+            if (options.ticks == 0 && nextArrival == players.length && tutorialManager.getActiveSessionCount() == 0
+                && tutorialManager.getAdmission().getQueueSize() == 0 && tutorialManager.getCommandQueue().getDepth() == 0) {
+                break;
+            }
+        }
+
+        TutorialMetrics metrics = tutorialManager.getMetrics();
+        result.starts = metrics.getStarts();
+        result.completions = metrics.getCompletions();
+        result.abandons = metrics.getAbandons();
+        return result;
+    }
+
+    /**
+     * Peak table sizes and outcome counters of one run.
+     */
+    private static final class Result {
+        private final TickRecorder ticks;
+        private int peakSessions;
+        private int peakScheduled;
+        private int peakCooldowns;
+        private int peakQueued;
+        private int peakCommandQueue;
+        private int peakCamera;
+        private long starts;
+        private long completions;
+        private long abandons;
+
+        private Result(TickRecorder ticks) {
+            this.ticks = ticks;
+        }
+
+        private void sample(TutorialManager tutorialManager) {
+            peakSessions = Math.max(peakSessions, tutorialManager.getActiveSessionCount());
+            // Steps are driven by one timing wheel, so scheduled entries replace per-session tasks
+            peakScheduled = Math.max(peakScheduled, tutorialManager.getScheduler().size());
+            peakCooldowns = Math.max(peakCooldowns, tutorialManager.getCooldowns().size());
+            peakQueued = Math.max(peakQueued, tutorialManager.getAdmission().getQueueSize());
+            peakCommandQueue = Math.max(peakCommandQueue, tutorialManager.getCommandQueue().getDepth());
+            peakCamera = Math.max(peakCamera, tutorialManager.getCamera().getActive());
+        }
+    }
+}
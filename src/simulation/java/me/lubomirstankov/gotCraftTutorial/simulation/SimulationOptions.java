@@ -0,0 +1,91 @@
+package me.lubomirstankov.gotCraftTutorial.simulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulator settings parsed from {@code key=value} arguments.
+ */
+final class SimulationOptions {
+    /** Player counts to simulate, one run each. */
+    final List<Integer> playerCounts;
+    /** Ticks to run, or 0 to run until every player finished. */
+    final int ticks;
+    final int points;
+    final long stepDelayTicks;
+    /** Ticks over which players type /tutorial, spread evenly. */
+    final int arrivalTicks;
+    /** Chance per tick that a player in a session sends a move. */
+    final double moveChance;
+    /** Chance that a move crosses a block boundary rather than jittering inside it. */
+    final double walkChance;
+    /** Chance per tick that a player in a session types a non-tutorial command. */
+    final double commandChance;
+    final int maxConcurrentSessions;
+    final int maxStartsPerTick;
+    final String freezeMode;
+    final int preloadRadius;
+    /** Ticks per camera flight between steps, or 0 to teleport. */
+    final int cameraTicks;
+    final int maxCameraMovements;
+    final long seed;
+    final double budgetMillis;
+
+    private SimulationOptions(Map<String, String> values) {
+        this.playerCounts = parseCounts(values.getOrDefault("players", "1000"));
+        this.ticks = Integer.parseInt(values.getOrDefault("ticks", "0"));
+        this.points = Integer.parseInt(values.getOrDefault("points", "5"));
+        this.stepDelayTicks = Long.parseLong(values.getOrDefault("step-delay", "100"));
+        this.arrivalTicks = Integer.parseInt(values.getOrDefault("arrival-ticks", "100"));
+        this.moveChance = Double.parseDouble(values.getOrDefault("move-chance", "0.5"));
+        this.walkChance = Double.parseDouble(values.getOrDefault("walk-chance", "0.2"));
+        this.commandChance = Double.parseDouble(values.getOrDefault("command-chance", "0.005"));
+        this.maxConcurrentSessions = Integer.parseInt(values.getOrDefault("max-concurrent", "0"));
+        this.maxStartsPerTick = Integer.parseInt(values.getOrDefault("max-starts-per-tick", "0"));
+        this.freezeMode = values.getOrDefault("freeze-mode", "cancel");
+        // The mock world has no real chunk system, so preloading is off unless asked for
+        this.preloadRadius = Integer.parseInt(values.getOrDefault("preload-radius", "-1"));
+        this.cameraTicks = Integer.parseInt(values.getOrDefault("camera-ticks", "40"));
+        this.maxCameraMovements = Integer.parseInt(values.getOrDefault("camera-max-concurrent", "50"));
+        this.seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        this.budgetMillis = Double.parseDouble(values.getOrDefault("budget-ms", "50"));
+    }
+
+    /**
+     * Parses {@code key=value} arguments; unknown keys are rejected.
+     */
+    static SimulationOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                if (token.isEmpty()) {
+                    continue;
+                }
+                int split = token.indexOf('=');
+                if (split <= 0) {
+                    throw new IllegalArgumentException("Expected key=value but got: " + token);
+                }
+                values.put(token.substring(0, split), token.substring(split + 1));
+            }
+        }
+
+        List<String> known = List.of("players", "ticks", "points", "step-delay", "arrival-ticks", "move-chance", "walk-chance",
+            "command-chance", "max-concurrent", "max-starts-per-tick", "freeze-mode", "preload-radius", "camera-ticks", "camera-max-concurrent", "seed", "budget-ms");
+        for (String key : values.keySet()) {
+            if (!known.contains(key)) {
+                throw new IllegalArgumentException("Unknown option " + key + ", expected one of " + known);
+            }
+        }
+        return new SimulationOptions(values);
+    }
+
+    private static List<Integer> parseCounts(String raw) {
+        List<Integer> counts = new ArrayList<>();
+        for (String part : raw.split(",")) {
+            counts.add(Integer.parseInt(part.trim()));
+        }
+        return List.copyOf(counts);
+    }
+}
@@ -0,0 +1,80 @@
+package me.lubomirstankov.gotCraftTutorial.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Collects per-tick time and allocation samples and summarises them.
+ */
+final class TickRecorder {
+    private long[] nanos = new long[1024];
+    private long[] allocated = new long[1024];
+    private int size;
+
+    void record(long tickNanos, long tickAllocatedBytes) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+            allocated = Arrays.copyOf(allocated, size * 2);
+        }
+        nanos[size] = tickNanos;
+        allocated[size] = tickAllocatedBytes;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    double meanMillis() {
+        return mean(nanos) / 1_000_000.0;
+    }
+
+    /**
+     * Gets a tick time percentile in milliseconds.
+     */
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0.0;
+        }
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.min(size - 1, Math.ceil(size * percentile / 100.0) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    double maxMillis() {
+        long max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, nanos[i]);
+        }
+        return max / 1_000_000.0;
+    }
+
+    /**
+     * Counts ticks that took longer than the budget.
+     */
+    int ticksOver(double budgetMillis) {
+        long budgetNanos = (long) (budgetMillis * 1_000_000L);
+        int over = 0;
+        for (int i = 0; i < size; i++) {
+            if (nanos[i] > budgetNanos) {
+                over++;
+            }
+        }
+        return over;
+    }
+
+    double meanAllocatedBytes() {
+        return mean(allocated);
+    }
+
+    private double mean(long[] values) {
+        if (size == 0) {
+            return 0.0;
+        }
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += values[i];
+        }
+        return total / size;
+    }
+}